@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+# Measures login throughput of a running instance and normalises it per available core.
+#
+# Usage:  scripts/login-benchmark.sh [requests] [concurrency] [base-url] [username] [password]
+#
+# Every request posts to /api/auth/login. Responses are tallied by status, so 429s from the bounded password
+# hashing pool show up separately from successful logins.
+set -euo pipefail
+
+REQUESTS=${1:-2000}
+CONCURRENCY=${2:-64}
+BASE_URL=${3:-http://localhost:8080}
+USERNAME=${4:-Edwin}
+PASSWORD=${5:-password123}
+CORES=$(nproc)
+BODY=$(printf '{"username":"%s","password":"%s"}' "$USERNAME" "$PASSWORD")
+
+start=$(date +%s%N)
+statuses=$(seq "$REQUESTS" | xargs -P "$CONCURRENCY" -I{} curl -s -o /dev/null -w '%{http_code}\n' \
+  -H 'Content-Type: application/json' -d "$BODY" "$BASE_URL/api/auth/login")
+end=$(date +%s%N)
+
+elapsed_ms=$(((end - start) / 1000000))
+ok=$(grep -c '^200$' <<< "$statuses" || true)
+echo "requests: $REQUESTS, concurrency: $CONCURRENCY, elapsed: ${elapsed_ms} ms"
+echo "status counts:"
+sort <<< "$statuses" | uniq -c
+echo "successful logins/s: $((ok * 1000 / elapsed_ms)), per core ($CORES): $((ok * 1000 / elapsed_ms / CORES))"
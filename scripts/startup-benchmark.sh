@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request of the prod profile: from JVM launch until the first successful response.
+#
+# Build first:  ./mvnw -Paot,cds -DskipTests package
+# Usage:        scripts/startup-benchmark.sh [runs] [url]
+#
+# Each mode starts target/app/*.jar against the configured database, polls the url and stops the JVM again.
+set -euo pipefail
+
+RUNS=${1:-5}
+URL=${2:-http://localhost:8080/api/boardgames}
+APP_DIR="$(dirname "$0")/../target/app"
+JAR=$(ls "$APP_DIR"/*.jar | head -n 1)
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+
+declare -A MODES=(
+  ["jar"]=""
+  ["cds"]="-XX:SharedArchiveFile=$APP_DIR/application.jsa -Xlog:cds=off"
+  ["cds+aot"]="-XX:SharedArchiveFile=$APP_DIR/application.jsa -Xlog:cds=off -Dspring.aot.enabled=true"
+)
+
+measure() {
+  local opts=$1
+  local start end pid
+  start=$(date +%s%N)
+  # shellcheck disable=SC2086
+  "$JAVA" $opts -Dspring.profiles.active=prod -jar "$JAR" > /dev/null 2>&1 &
+  pid=$!
+  until curl -fs -o /dev/null "$URL"; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "application exited before serving $URL" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  end=$(date +%s%N)
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+  echo $(((end - start) / 1000000))
+}
+
+for mode in jar cds cds+aot; do
+  times=()
+  for _ in $(seq "$RUNS"); do
+    times+=("$(measure "${MODES[$mode]}")")
+  done
+  sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+  echo "$mode: median ${sorted[$((RUNS / 2))]} ms (runs: ${times[*]})"
+done
@@ -0,0 +1,47 @@
+package com.meepleconnect.boardgamesapi.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves boardgames_seq past the existing boardgame ids when Flyway is disabled. Hibernate creates the sequence
+ * at 1 on a database that was filled while ids were still identity columns; migration V8 does the same job
+ * when Flyway manages the schema.
+ */
+@Component
+@Order(0)
+@ConditionalOnProperty(name = "spring.flyway.enabled", havingValue = "false")
+public class BoardgameSequenceInitializer implements CommandLineRunner {
+
+        // Must match the allocationSize of Boardgame's @SequenceGenerator
+        static final int BOARDGAME_ID_BLOCK = 50;
+
+        private final JdbcTemplate jdbcTemplate;
+        private final EntityManagerFactory entityManagerFactory;
+
+        public BoardgameSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+                this.jdbcTemplate = jdbcTemplate;
+                this.entityManagerFactory = entityManagerFactory;
+        }
+
+        @Override
+        public void run(String... args) {
+                Long maxId = jdbcTemplate.queryForObject("select max(id) from boardgames", Long.class);
+                if (maxId == null) {
+                        return;
+                }
+
+                String nextValue = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices()
+                                .getDialect().getSequenceSupport().getSequenceNextValString("boardgames_seq");
+                long hi = jdbcTemplate.queryForObject(nextValue, Long.class);
+                if (hi - BOARDGAME_ID_BLOCK >= maxId) {
+                        return;
+                }
+                jdbcTemplate.execute("alter sequence boardgames_seq restart with " + (maxId + BOARDGAME_ID_BLOCK));
+        }
+}
@@ -0,0 +1,51 @@
+package com.meepleconnect.boardgamesapi.config;
+
+import com.meepleconnect.boardgamesapi.search.BoardgameNameIndex;
+import com.meepleconnect.boardgamesapi.search.CatalogSnapshot;
+import com.meepleconnect.boardgamesapi.statistics.DashboardCounters;
+import com.meepleconnect.boardgamesapi.statistics.PopularityRanking;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the in-memory read models once the application is ready. By default this runs on a background thread so
+ * the readiness state does not wait for full-table reads; requests that arrive first load what they need on
+ * demand, and catalog browsing falls back to the database until the snapshot is built.
+ */
+@Component
+public class CacheWarmup {
+
+        private final CatalogSnapshot catalogSnapshot;
+        private final BoardgameNameIndex boardgameNameIndex;
+        private final PopularityRanking popularityRanking;
+        private final DashboardCounters dashboardCounters;
+        private final boolean async;
+
+        public CacheWarmup(CatalogSnapshot catalogSnapshot, BoardgameNameIndex boardgameNameIndex,
+                        PopularityRanking popularityRanking, DashboardCounters dashboardCounters,
+                        @Value("${startup.warmup.async:true}") boolean async) {
+                this.catalogSnapshot = catalogSnapshot;
+                this.boardgameNameIndex = boardgameNameIndex;
+                this.popularityRanking = popularityRanking;
+                this.dashboardCounters = dashboardCounters;
+                this.async = async;
+        }
+
+        @EventListener(ApplicationReadyEvent.class)
+        public void onApplicationReady() {
+                if (async) {
+                        Thread.ofPlatform().name("cache-warmup").daemon().start(this::warmUp);
+                } else {
+                        warmUp();
+                }
+        }
+
+        void warmUp() {
+                dashboardCounters.warmUp();
+                popularityRanking.warmUp();
+                boardgameNameIndex.warmUp();
+                catalogSnapshot.rebuild();
+        }
+}
@@ -10,6 +10,7 @@ import com.meepleconnect.boardgamesapi.repositories.RoleRepository;
 import com.meepleconnect.boardgamesapi.repositories.UserRepository;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,8 +18,12 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
+@Order(1)
 @ConditionalOnProperty(name = "data.initialization.enabled", havingValue = "true", matchIfMissing = true)
 public class DataInitializer implements CommandLineRunner {
 
@@ -61,102 +66,91 @@ public class DataInitializer implements CommandLineRunner {
                 }
                 System.out.println("🔄 Creating default users...");
 
-                Role adminRole = roleRepository.findAll().stream()
-                                .filter(r -> "ROLE_ADMIN".equals(r.getRoleName()))
-                                .findFirst()
-                                .orElseGet(() -> {
-                                        Role role = new Role();
-                                        role.setRoleName("ROLE_ADMIN");
-                                        role.setActive(true);
-                                        role.setDescription("administrator roles");
-                                        return roleRepository.save(role);
-                                });
-                Role userRole = roleRepository.findAll().stream()
-                                .filter(r -> "ROLE_USER".equals(r.getRoleName()))
-                                .findFirst()
-                                .orElseGet(() -> {
-                                        Role role = new Role();
-                                        role.setRoleName("ROLE_USER");
-                                        role.setActive(true);
-                                        role.setDescription("user roles");
-                                        return roleRepository.save(role);
-                                });
+                Map<String, Role> roles = roleRepository.findByRoleNameIn(List.of("ROLE_ADMIN", "ROLE_USER")).stream()
+                                .collect(Collectors.toMap(Role::getRoleName, Function.identity()));
+                Role adminRole = roles.computeIfAbsent("ROLE_ADMIN", name -> newRole(name, "administrator roles"));
+                Role userRole = roles.computeIfAbsent("ROLE_USER", name -> newRole(name, "user roles"));
+                roleRepository.saveAll(roles.values().stream().filter(role -> role.getId() == null).toList());
 
-                adminRole = roleRepository.findById(adminRole.getId()).orElseThrow();
-                userRole = roleRepository.findById(userRole.getId()).orElseThrow();
+                // BCrypt is deliberately slow; both default users share a password, so hash it once
+                String password = passwordEncoder.encode("password123");
 
                 User ruthger = new User();
                 ruthger.setUserName("Ruthger");
-                ruthger.setPassword(passwordEncoder.encode("password123"));
+                ruthger.setPassword(password);
                 ruthger.setEnabled(true);
                 ruthger.setExpired(false);
                 ruthger.setLocked(false);
                 ruthger.setAreCredentialsExpired(false);
                 ruthger.setRoles(Arrays.asList(adminRole, userRole));
-                userRepository.save(ruthger);
 
                 User edwin = new User();
                 edwin.setUserName("Edwin");
-                edwin.setPassword(passwordEncoder.encode("password123"));
+                edwin.setPassword(password);
                 edwin.setEnabled(true);
                 edwin.setExpired(false);
                 edwin.setLocked(false);
                 edwin.setAreCredentialsExpired(false);
                 edwin.setRoles(Arrays.asList(userRole));
-                userRepository.save(edwin);
+
+                userRepository.saveAll(List.of(ruthger, edwin));
 
                 System.out.println("✅ Standard users created: Ruthger & Edwin (password: password123)");
         }
 
+        private Role newRole(String roleName, String description) {
+                Role role = new Role();
+                role.setRoleName(roleName);
+                role.setActive(true);
+                role.setDescription(description);
+                return role;
+        }
+
         private void initializePublishers() {
                 Publisher mayfair = new Publisher();
                 mayfair.setName("Mayfair Games");
                 mayfair.setCountryOfOrigin("USA");
                 mayfair.setFounded(1980);
                 mayfair.setIndie(false);
-                publisherRepository.save(mayfair);
 
                 Publisher daysOfWonder = new Publisher();
                 daysOfWonder.setName("Days of Wonder");
                 daysOfWonder.setCountryOfOrigin("France");
                 daysOfWonder.setFounded(2002);
                 daysOfWonder.setIndie(false);
-                publisherRepository.save(daysOfWonder);
 
                 Publisher zManGames = new Publisher();
                 zManGames.setName("Z-Man Games");
                 zManGames.setCountryOfOrigin("USA");
                 zManGames.setFounded(1999);
                 zManGames.setIndie(false);
-                publisherRepository.save(zManGames);
 
                 Publisher hasbro = new Publisher();
                 hasbro.setName("Hasbro");
                 hasbro.setCountryOfOrigin("USA");
                 hasbro.setFounded(1923);
                 hasbro.setIndie(false);
-                publisherRepository.save(hasbro);
 
                 Publisher chessHouse = new Publisher();
                 chessHouse.setName("Chess House");
                 chessHouse.setCountryOfOrigin("Netherlands");
                 chessHouse.setFounded(1995);
                 chessHouse.setIndie(true);
-                publisherRepository.save(chessHouse);
 
                 Publisher czechGames = new Publisher();
                 czechGames.setName("Czech Games Edition");
                 czechGames.setCountryOfOrigin("Czech Republic");
                 czechGames.setFounded(2007);
                 czechGames.setIndie(true);
-                publisherRepository.save(czechGames);
 
                 Publisher fantasyFlight = new Publisher();
                 fantasyFlight.setName("Fantasy Flight Games");
                 fantasyFlight.setCountryOfOrigin("USA");
                 fantasyFlight.setFounded(1995);
                 fantasyFlight.setIndie(false);
-                publisherRepository.save(fantasyFlight);
+
+                publisherRepository.saveAll(List.of(mayfair, daysOfWonder, zManGames, hasbro, chessHouse, czechGames,
+                                fantasyFlight));
 
                 System.out.println(
                                 "✅ Publishers created: Mayfair Games, Days of Wonder, Z-Man Games, Hasbro, Chess House, Czech Games Edition, Fantasy Flight Games");
@@ -194,7 +188,6 @@ public class DataInitializer implements CommandLineRunner {
                 catan.setMaxPlayers(4);
                 catan.setGenre("Strategy");
                 catan.setPublisher(mayfair);
-                boardgameRepository.save(catan);
 
                 Boardgame ticketToRide = new Boardgame();
                 ticketToRide.setName("Ticket to Ride");
@@ -204,7 +197,6 @@ public class DataInitializer implements CommandLineRunner {
                 ticketToRide.setMaxPlayers(5);
                 ticketToRide.setGenre("Family");
                 ticketToRide.setPublisher(daysOfWonder);
-                boardgameRepository.save(ticketToRide);
 
                 Boardgame pandemic = new Boardgame();
                 pandemic.setName("Pandemic");
@@ -214,7 +206,6 @@ public class DataInitializer implements CommandLineRunner {
                 pandemic.setMaxPlayers(4);
                 pandemic.setGenre("Cooperative");
                 pandemic.setPublisher(zManGames);
-                boardgameRepository.save(pandemic);
 
                 Boardgame monopoly = new Boardgame();
                 monopoly.setName("Monopoly");
@@ -224,7 +215,6 @@ public class DataInitializer implements CommandLineRunner {
                 monopoly.setMaxPlayers(8);
                 monopoly.setGenre("Family");
                 monopoly.setPublisher(hasbro);
-                boardgameRepository.save(monopoly);
 
                 Boardgame chess = new Boardgame();
                 chess.setName("Chess");
@@ -234,7 +224,6 @@ public class DataInitializer implements CommandLineRunner {
                 chess.setMaxPlayers(2);
                 chess.setGenre("Strategy");
                 chess.setPublisher(chessHouse);
-                boardgameRepository.save(chess);
 
                 Boardgame alchemists = new Boardgame();
                 alchemists.setName("Alchemists");
@@ -244,7 +233,6 @@ public class DataInitializer implements CommandLineRunner {
                 alchemists.setMaxPlayers(4);
                 alchemists.setGenre("Strategy");
                 alchemists.setPublisher(czechGames);
-                boardgameRepository.save(alchemists);
 
                 Boardgame arkhamHorror = new Boardgame();
                 arkhamHorror.setName("Arkham Horror");
@@ -254,7 +242,9 @@ public class DataInitializer implements CommandLineRunner {
                 arkhamHorror.setMaxPlayers(8);
                 arkhamHorror.setGenre("Adventure");
                 arkhamHorror.setPublisher(fantasyFlight);
-                boardgameRepository.save(arkhamHorror);
+
+                boardgameRepository.saveAll(List.of(catan, ticketToRide, pandemic, monopoly, chess, alchemists,
+                                arkhamHorror));
 
                 System.out.println(
                                 "✅ Boardgames created: Catan, Ticket to Ride, Pandemic, Monopoly, Chess, Alchemists, Arkham Horror");
@@ -0,0 +1,228 @@
+package com.meepleconnect.boardgamesapi.config;
+
+import com.meepleconnect.boardgamesapi.entities.Role;
+import com.meepleconnect.boardgamesapi.repositories.RoleRepository;
+import com.meepleconnect.boardgamesapi.statistics.ReservationDailyRollup;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+/**
+ * Generates a synthetic dataset for load-test environments with JDBC batch inserts. Every user gets the same
+ * password hash, computed once, and boardgame ids are reserved from boardgames_seq as one range of the pooled
+ * blocks Hibernate uses, so the application can keep inserting after the seed. The reservation rollup is rebuilt
+ * afterwards because the raw inserts bypass the reservation events that maintain it.
+ */
+@Component
+@Order(2)
+@ConditionalOnProperty(name = "data.seed.synthetic.enabled", havingValue = "true")
+public class SyntheticDataSeeder implements CommandLineRunner {
+
+        private static final String PUBLISHER_PREFIX = "Seed Publisher ";
+        private static final String BOARDGAME_PREFIX = "Seed Game ";
+        private static final String USER_PREFIX = "seed-user-";
+        // Must match the allocationSize of Boardgame's @SequenceGenerator
+        private static final int BOARDGAME_ID_BLOCK = 50;
+        private static final String[] GENRES = { "Strategy", "Family", "Cooperative", "Party", "Adventure",
+                        "Abstract", "Deck Building", "Wargame" };
+        private static final String[] COUNTRIES = { "USA", "Germany", "France", "Netherlands", "Czech Republic",
+                        "Poland", "Japan", "United Kingdom" };
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate transactionTemplate;
+        private final RoleRepository roleRepository;
+        private final ReservationDailyRollup reservationDailyRollup;
+        private final PasswordEncoder passwordEncoder;
+        private final EntityManagerFactory entityManagerFactory;
+        private final int publishers;
+        private final int boardgames;
+        private final int users;
+        private final int reservations;
+        private final int batchSize;
+        private final String password;
+        private final long randomSeed;
+
+        public SyntheticDataSeeder(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                        RoleRepository roleRepository, ReservationDailyRollup reservationDailyRollup,
+                        PasswordEncoder passwordEncoder,
+                        EntityManagerFactory entityManagerFactory,
+                        @Value("${data.seed.synthetic.publishers:100}") int publishers,
+                        @Value("${data.seed.synthetic.boardgames:10000}") int boardgames,
+                        @Value("${data.seed.synthetic.users:1000}") int users,
+                        @Value("${data.seed.synthetic.reservations:10000}") int reservations,
+                        @Value("${data.seed.synthetic.batch-size:5000}") int batchSize,
+                        @Value("${data.seed.synthetic.password:password123}") String password,
+                        @Value("${data.seed.synthetic.random-seed:42}") long randomSeed) {
+                this.jdbcTemplate = jdbcTemplate;
+                this.transactionTemplate = new TransactionTemplate(transactionManager);
+                this.roleRepository = roleRepository;
+                this.reservationDailyRollup = reservationDailyRollup;
+                this.passwordEncoder = passwordEncoder;
+                this.entityManagerFactory = entityManagerFactory;
+                this.publishers = publishers;
+                this.boardgames = boardgames;
+                this.users = users;
+                this.reservations = reservations;
+                this.batchSize = batchSize;
+                this.password = password;
+                this.randomSeed = randomSeed;
+        }
+
+        @Override
+        public void run(String... args) {
+                Integer seeded = jdbcTemplate.queryForObject("select count(*) from publishers where name like ?",
+                                Integer.class, PUBLISHER_PREFIX + "%");
+                if (seeded != null && seeded > 0) {
+                        System.out.println("✅ Synthetic dataset already present, skipping seeding...");
+                        return;
+                }
+
+                long start = System.nanoTime();
+                SplittableRandom random = new SplittableRandom(randomSeed);
+                long[] publisherIds = seedPublishers(random);
+                long[] boardgameIds = seedBoardgames(random, publisherIds);
+                long[] userIds = seedUsers();
+                seedReservations(random, userIds, boardgameIds);
+                entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+                reservationDailyRollup.rebuild();
+
+                System.out.println("✅ Synthetic dataset created: " + publisherIds.length + " publishers, "
+                                + boardgameIds.length + " boardgames, " + userIds.length + " users, "
+                                + (userIds.length > 0 && boardgameIds.length > 0 ? reservations : 0)
+                                + " reservations in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+
+        private long[] seedPublishers(SplittableRandom random) {
+                insertInBatches("insert into publishers (name, country_of_origin, founded, is_indie) values (?, ?, ?, ?)",
+                                publishers, i -> new Object[] {
+                                                PUBLISHER_PREFIX + (i + 1),
+                                                COUNTRIES[random.nextInt(COUNTRIES.length)],
+                                                random.nextInt(1900, 2025),
+                                                random.nextInt(4) == 0 });
+                return selectIds("select id from publishers where name like ? order by id", PUBLISHER_PREFIX + "%");
+        }
+
+        private long[] seedBoardgames(SplittableRandom random, long[] publisherIds) {
+                if (publisherIds.length == 0) {
+                        return new long[0];
+                }
+                long[] ids = reserveBoardgameIds(boardgames);
+                insertInBatches("insert into boardgames (id, name, price, min_players, max_players, genre, available, "
+                                + "publisher_id) values (?, ?, ?, ?, ?, ?, ?, ?)", ids.length, i -> {
+                                        int minPlayers = random.nextInt(1, 5);
+                                        return new Object[] {
+                                                        ids[i],
+                                                        BOARDGAME_PREFIX + (i + 1),
+                                                        BigDecimal.valueOf(random.nextInt(500, 15000), 2),
+                                                        minPlayers,
+                                                        minPlayers + random.nextInt(0, 5),
+                                                        GENRES[random.nextInt(GENRES.length)],
+                                                        random.nextInt(10) != 0,
+                                                        publisherIds[random.nextInt(publisherIds.length)] };
+                                });
+                return ids;
+        }
+
+        private long[] reserveBoardgameIds(int count) {
+                String nextValue = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices()
+                                .getDialect().getSequenceSupport().getSequenceNextValString("boardgames_seq");
+                long hi = jdbcTemplate.queryForObject(nextValue, Long.class);
+                // A fresh sequence starts below one full block; Hibernate treats that value specially
+                while (hi < BOARDGAME_ID_BLOCK) {
+                        hi = jdbcTemplate.queryForObject(nextValue, Long.class);
+                }
+                long first = hi - BOARDGAME_ID_BLOCK + 1;
+                long blocks = (count + BOARDGAME_ID_BLOCK - 1) / BOARDGAME_ID_BLOCK;
+                if (blocks > 1) {
+                        // Skip the sequence past every further block in one statement instead of one nextval each
+                        jdbcTemplate.execute("alter sequence boardgames_seq restart with "
+                                        + (hi + blocks * BOARDGAME_ID_BLOCK));
+                }
+                long[] ids = new long[count];
+                for (int i = 0; i < count; i++) {
+                        ids[i] = first + i;
+                }
+                return ids;
+        }
+
+        private long[] seedUsers() {
+                String passwordHash = passwordEncoder.encode(password);
+                insertInBatches("insert into users (user_name, password, is_expired, is_locked, "
+                                + "are_credentials_expired, is_enabled, token_version) "
+                                + "values (?, ?, false, false, false, true, 0)",
+                                users, i -> new Object[] { USER_PREFIX + (i + 1), passwordHash });
+                long[] userIds = selectIds("select id from users where user_name like ? order by id",
+                                USER_PREFIX + "%");
+
+                long roleId = userRoleId();
+                insertInBatches("insert into user_role (user_id, role_id) values (?, ?)", userIds.length,
+                                i -> new Object[] { userIds[i], roleId });
+                return userIds;
+        }
+
+        private long userRoleId() {
+                return roleRepository.findByRoleNameIn(List.of("ROLE_USER")).stream()
+                                .findFirst()
+                                .orElseGet(() -> {
+                                        Role role = new Role();
+                                        role.setRoleName("ROLE_USER");
+                                        role.setActive(true);
+                                        role.setDescription("user roles");
+                                        return roleRepository.save(role);
+                                })
+                                .getId();
+        }
+
+        private void seedReservations(SplittableRandom random, long[] userIds, long[] boardgameIds) {
+                if (userIds.length == 0 || boardgameIds.length == 0) {
+                        return;
+                }
+                LocalDate today = LocalDate.now();
+                Instant now = Instant.now();
+                insertInBatches("insert into reservations (customer_id, boardgame_id, reservation_date, "
+                                + "participant_count, created_at) values (?, ?, ?, ?, ?)", reservations,
+                                i -> new Object[] {
+                                                userIds[random.nextInt(userIds.length)],
+                                                boardgameIds[random.nextInt(boardgameIds.length)],
+                                                today.plusDays(random.nextInt(1, 366)),
+                                                random.nextInt(1, 7),
+                                                OffsetDateTime.ofInstant(now.minusSeconds(random.nextLong(7_776_000)),
+                                                                ZoneOffset.UTC) });
+        }
+
+        private void insertInBatches(String sql, int count, IntFunction<Object[]> row) {
+                List<Object[]> batch = new ArrayList<>(Math.min(batchSize, count));
+                for (int i = 0; i < count; i++) {
+                        batch.add(row.apply(i));
+                        if (batch.size() == batchSize || i == count - 1) {
+                                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, batch));
+                                batch.clear();
+                        }
+                }
+        }
+
+        private long[] selectIds(String sql, String namePattern) {
+                return jdbcTemplate.queryForList(sql, Long.class, namePattern).stream()
+                                .mapToLong(Long::longValue)
+                                .toArray();
+        }
+}
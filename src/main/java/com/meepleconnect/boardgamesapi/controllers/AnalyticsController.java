@@ -1,13 +1,11 @@
 package com.meepleconnect.boardgamesapi.controllers;
 
-import com.meepleconnect.boardgamesapi.services.BoardgameService;
-import com.meepleconnect.boardgamesapi.services.ReservationService;
-import com.meepleconnect.boardgamesapi.services.UserService;
+import com.meepleconnect.boardgamesapi.models.TrendingWindow;
+import com.meepleconnect.boardgamesapi.services.AnalyticsService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
-import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -15,16 +13,10 @@ import java.util.Map;
 @RequestMapping("/api/analytics")
 public class AnalyticsController {
 
-    private final BoardgameService boardgameService;
-    private final ReservationService reservationService;
-    private final UserService userService;
+    private final AnalyticsService analyticsService;
 
-    public AnalyticsController(BoardgameService boardgameService,
-            ReservationService reservationService,
-            UserService userService) {
-        this.boardgameService = boardgameService;
-        this.reservationService = reservationService;
-        this.userService = userService;
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
     }
 
     @GetMapping("/revenue/forecast")
@@ -51,14 +43,7 @@ public class AnalyticsController {
     public ResponseEntity<Map<String, Object>> getBoardgamePerformance() {
         Map<String, Object> performance = new HashMap<>();
 
-        Map<String, Object> metrics = new HashMap<>();
-        metrics.put("mostReservedGame", "Catan");
-        metrics.put("leastReservedGame", "Chess");
-        metrics.put("averageReservationsPerGame", 12.5);
-        metrics.put("topPerformingGenre", "Strategy");
-        metrics.put("utilizationRate", 78.3);
-
-        performance.put("performanceMetrics", metrics);
+        performance.put("performanceMetrics", analyticsService.getBoardgamePerformance());
         performance.put("analysisDate", LocalDate.now());
 
         return ResponseEntity.ok(performance);
@@ -68,14 +53,7 @@ public class AnalyticsController {
     public ResponseEntity<Map<String, Object>> getCustomerInsights() {
         Map<String, Object> insights = new HashMap<>();
 
-        Map<String, Object> customerData = new HashMap<>();
-        customerData.put("totalCustomers", userService.getTotalUsersCount());
-        customerData.put("activeCustomers", userService.getTotalUsersCount() * 0.75);
-        customerData.put("averageReservationsPerCustomer", 3.2);
-        customerData.put("customerRetentionRate", 85.7);
-        customerData.put("newCustomersThisMonth", 12);
-
-        insights.put("customerInsights", customerData);
+        insights.put("customerInsights", analyticsService.getCustomerInsights());
         insights.put("generatedAt", LocalDate.now());
 
         return ResponseEntity.ok(insights);
@@ -83,19 +61,13 @@ public class AnalyticsController {
 
     @GetMapping("/trends/seasonal")
     public ResponseEntity<Map<String, Object>> getSeasonalTrends(@RequestParam int year) {
-        Map<String, Object> trends = new HashMap<>();
-
-        Map<String, Integer> seasonalData = new HashMap<>();
-        seasonalData.put("Winter", 45);
-        seasonalData.put("Spring", 38);
-        seasonalData.put("Summer", 52);
-        seasonalData.put("Autumn", 41);
-
-        trends.put("year", year);
-        trends.put("seasonalReservations", seasonalData);
-        trends.put("peakSeason", "Summer");
-        trends.put("lowSeason", "Spring");
+        return ResponseEntity.ok(analyticsService.getSeasonalTrends(year));
+    }
 
-        return ResponseEntity.ok(trends);
+    @GetMapping("/trending")
+    public ResponseEntity<Map<String, Object>> getTrendingBoardgames(
+            @RequestParam(defaultValue = "day") String window,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(analyticsService.getTrendingBoardgames(TrendingWindow.from(window), limit));
     }
-}
\ No newline at end of file
+}
@@ -1,16 +1,36 @@
 package com.meepleconnect.boardgamesapi.controllers;
 
 import com.meepleconnect.boardgamesapi.dtos.BoardgameDTOMapper;
+import com.meepleconnect.boardgamesapi.dtos.BoardgameFacetsResponseDTO;
+import com.meepleconnect.boardgamesapi.dtos.BoardgamePageResponseDTO;
 import com.meepleconnect.boardgamesapi.dtos.BoardgameRequestDTO;
 import com.meepleconnect.boardgamesapi.dtos.BoardgameResponseDTO;
 import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameFacets;
+import com.meepleconnect.boardgamesapi.models.BoardgameImportResult;
+import com.meepleconnect.boardgamesapi.models.BoardgamePage;
+import com.meepleconnect.boardgamesapi.models.BoardgameSearchCriteria;
+import com.meepleconnect.boardgamesapi.search.CatalogResponseCache;
+import com.meepleconnect.boardgamesapi.services.BoardgameExportService;
+import com.meepleconnect.boardgamesapi.services.BoardgameFacetService;
+import com.meepleconnect.boardgamesapi.services.BoardgameImportService;
 import com.meepleconnect.boardgamesapi.services.BoardgameService;
+import com.meepleconnect.boardgamesapi.statistics.TrendingTracker;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
 import java.net.URI;
-import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/boardgames")
@@ -18,26 +38,108 @@ import java.util.List;
 public class BoardgameController {
 
     private final BoardgameService boardgameService;
+    private final BoardgameFacetService boardgameFacetService;
+    private final BoardgameExportService boardgameExportService;
+    private final BoardgameImportService boardgameImportService;
     private final BoardgameDTOMapper boardgameDTOMapper;
+    private final TrendingTracker trendingTracker;
+    private final CatalogResponseCache catalogResponseCache;
 
-    public BoardgameController(BoardgameService boardgameService, BoardgameDTOMapper boardgameDTOMapper) {
+    public BoardgameController(BoardgameService boardgameService, BoardgameFacetService boardgameFacetService,
+            BoardgameExportService boardgameExportService, BoardgameImportService boardgameImportService,
+            BoardgameDTOMapper boardgameDTOMapper, TrendingTracker trendingTracker,
+            CatalogResponseCache catalogResponseCache) {
         this.boardgameService = boardgameService;
+        this.boardgameFacetService = boardgameFacetService;
+        this.boardgameExportService = boardgameExportService;
+        this.boardgameImportService = boardgameImportService;
         this.boardgameDTOMapper = boardgameDTOMapper;
+        this.trendingTracker = trendingTracker;
+        this.catalogResponseCache = catalogResponseCache;
     }
 
     @GetMapping
-    public List<BoardgameResponseDTO> getAllBoardgames(
+    public ResponseEntity<byte[]> getAllBoardgames(
             @RequestParam(required = false) String genre,
             @RequestParam(required = false) Boolean available,
             @RequestParam(required = false) Integer minPlayers,
-            @RequestParam(required = false) Integer maxPlayers) {
-        List<Boardgame> boardgames = boardgameService.getFilteredBoardgames(genre, available, minPlayers, maxPlayers);
-        return boardgameDTOMapper.toResponseDTOList(boardgames);
+            @RequestParam(required = false) Integer maxPlayers,
+            WebRequest request) {
+        String signature = CatalogResponseCache.signature("boardgames", genre, available, minPlayers, maxPlayers);
+        String etag = catalogResponseCache.etag(signature);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        CatalogResponseCache.CachedResponse response = catalogResponseCache.get(signature, () ->
+                boardgameDTOMapper.toListingResponseDTOList(
+                        boardgameService.getFilteredBoardgames(genre, available, minPlayers, maxPlayers)));
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
+    }
+
+    @GetMapping("/page")
+    public BoardgamePageResponseDTO getBoardgamePage(
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) Boolean available,
+            @RequestParam(required = false) Integer minPlayers,
+            @RequestParam(required = false) Integer maxPlayers,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size) {
+        BoardgamePage page = boardgameService.getBoardgamePage(genre, available, minPlayers, maxPlayers, sort, after,
+                size);
+        return boardgameDTOMapper.toPageResponseDTO(page);
+    }
+
+    @GetMapping("/facets")
+    public BoardgameFacetsResponseDTO getBoardgameFacets(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) Boolean available,
+            @RequestParam(required = false) Integer minPlayers,
+            @RequestParam(required = false) Integer maxPlayers,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice) {
+        BoardgameFacets facets = boardgameFacetService.getFacets(new BoardgameSearchCriteria(name, genre, available,
+                minPlayers, maxPlayers, minPrice, maxPrice, null, false, null, null));
+        return boardgameDTOMapper.toFacetsResponseDTO(facets);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBoardgames(
+            @RequestParam(defaultValue = BoardgameExportService.FORMAT_JSON) String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        BoardgameExportService.validateFormat(format);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                boardgameExportService.exportCatalog(format, compressed);
+                compressed.finish();
+            } else {
+                boardgameExportService.exportCatalog(format, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(BoardgameExportService.FORMAT_NDJSON.equals(format)
+                        ? MediaType.APPLICATION_NDJSON
+                        : MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<BoardgameResponseDTO> getBoardgameById(@PathVariable Long id) {
         Boardgame boardgame = boardgameService.getBoardgameById(id);
+        trendingTracker.recordView(boardgame.getId());
         return ResponseEntity.ok(boardgameDTOMapper.toResponseDTO(boardgame));
     }
 
@@ -58,9 +160,44 @@ public class BoardgameController {
         return ResponseEntity.ok(boardgameDTOMapper.toResponseDTO(updatedBoardgame));
     }
 
+    @PostMapping(value = "/import", consumes = { MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE, BoardgameImportService.TEXT_CSV_VALUE })
+    public ResponseEntity<BoardgameImportResult> importBoardgames(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream content) throws IOException {
+        return ResponseEntity.ok(boardgameImportService.importBoardgames(content, contentType));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteBoardgame(@PathVariable Long id) {
         boardgameService.deleteBoardgame(id);
         return ResponseEntity.noContent().build();
     }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            if (!parts[0].trim().toLowerCase(Locale.ROOT).equals("gzip")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+                if (parameter.startsWith("q=")) {
+                    try {
+                        refused = Double.parseDouble(parameter.substring(2).trim()) <= 0;
+                    } catch (NumberFormatException e) {
+                        refused = true;
+                    }
+                }
+            }
+            if (!refused) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
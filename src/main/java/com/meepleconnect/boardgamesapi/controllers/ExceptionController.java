@@ -1,6 +1,7 @@
 package com.meepleconnect.boardgamesapi.controllers;
 
 import com.meepleconnect.boardgamesapi.exceptions.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -102,6 +103,14 @@ public class ExceptionController {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException ex) {
+        ErrorResponse error = new ErrorResponse("Too Many Requests", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     @ExceptionHandler(TeapotException.class)
     public ResponseEntity<ErrorResponse> handleTeapotException(TeapotException ex) {
         ErrorResponse error = new ErrorResponse("I'm a Teapot", ex.getMessage());
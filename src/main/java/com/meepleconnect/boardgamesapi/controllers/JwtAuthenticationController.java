@@ -1,21 +1,27 @@
 package com.meepleconnect.boardgamesapi.controllers;
 
+import com.meepleconnect.boardgamesapi.events.UserChangedEvent;
 import com.meepleconnect.boardgamesapi.exceptions.BadRequestException;
 import com.meepleconnect.boardgamesapi.exceptions.ConflictException;
+import com.meepleconnect.boardgamesapi.exceptions.TooManyRequestsException;
 import com.meepleconnect.boardgamesapi.security.JwtRequest;
 import com.meepleconnect.boardgamesapi.security.JwtResponse;
-import com.meepleconnect.boardgamesapi.security.JwtUtil;
 import com.meepleconnect.boardgamesapi.entities.User;
+import com.meepleconnect.boardgamesapi.models.AuthTokens;
 import com.meepleconnect.boardgamesapi.entities.Role;
 import com.meepleconnect.boardgamesapi.repositories.UserRepository;
 import com.meepleconnect.boardgamesapi.repositories.RoleRepository;
+import com.meepleconnect.boardgamesapi.security.JwtAuthenticationToken;
+import com.meepleconnect.boardgamesapi.services.RefreshTokenService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,21 +34,21 @@ import java.util.Optional;
 public class JwtAuthenticationController {
 
     private final AuthenticationManager authenticationManager;
-    private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final RefreshTokenService refreshTokenService;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public JwtAuthenticationController(AuthenticationManager authenticationManager, JwtUtil jwtUtil,
-            UserDetailsService userDetailsService, UserRepository userRepository,
-            RoleRepository roleRepository, PasswordEncoder passwordEncoder) {
+    public JwtAuthenticationController(AuthenticationManager authenticationManager,
+            RefreshTokenService refreshTokenService, UserRepository userRepository, RoleRepository roleRepository,
+            PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher) {
         this.authenticationManager = authenticationManager;
-        this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
+        this.refreshTokenService = refreshTokenService;
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     @PostMapping("/register")
@@ -89,13 +95,14 @@ public class JwtAuthenticationController {
             user.setRoles(Arrays.asList(userRole));
 
             User savedUser = userRepository.save(user);
+            eventPublisher.publishEvent(UserChangedEvent.created(savedUser.getId()));
 
             return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
                     "id", savedUser.getId(),
                     "username", savedUser.getUserName(),
                     "message", "User registered successfully"));
 
-        } catch (BadRequestException | ConflictException e) {
+        } catch (BadRequestException | ConflictException | TooManyRequestsException e) {
             throw e;
         } catch (Exception e) {
             throw new RuntimeException("Registration failed: " + e.getMessage(), e);
@@ -120,10 +127,34 @@ public class JwtAuthenticationController {
                 new UsernamePasswordAuthenticationToken(authenticationRequest.getUsername(),
                         authenticationRequest.getPassword()));
 
-        final UserDetails userDetails = userDetailsService.loadUserByUsername(authenticationRequest.getUsername());
-        final String jwt = jwtUtil.generateToken(userDetails.getUsername());
+        final User user = userRepository.findByUserName(authenticationRequest.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: "
+                        + authenticationRequest.getUsername()));
+        final AuthTokens tokens = refreshTokenService.login(user);
 
-        return ResponseEntity.ok(new JwtResponse(jwt));
+        return ResponseEntity.ok(new JwtResponse(tokens.accessToken(), tokens.refreshToken()));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtResponse> refreshAuthenticationToken(@RequestBody Map<String, String> request) {
+        String refreshToken = request.get("refreshToken");
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new BadRequestException("Refresh token cannot be null or empty");
+        }
+
+        AuthTokens tokens = refreshTokenService.refresh(refreshToken);
+        return ResponseEntity.ok(new JwtResponse(tokens.accessToken(), tokens.refreshToken()));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody(required = false) Map<String, String> request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String accessToken = authentication instanceof JwtAuthenticationToken jwtAuthentication
+                ? (String) jwtAuthentication.getCredentials()
+                : null;
+
+        refreshTokenService.logout(request != null ? request.get("refreshToken") : null, accessToken);
+        return ResponseEntity.noContent().build();
     }
 
 }
@@ -1,9 +1,13 @@
 package com.meepleconnect.boardgamesapi.controllers;
 
 import com.meepleconnect.boardgamesapi.models.Publisher;
+import com.meepleconnect.boardgamesapi.search.CatalogResponseCache;
 import com.meepleconnect.boardgamesapi.services.PublisherService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -13,14 +17,27 @@ import java.util.List;
 public class PublisherController {
 
     private final PublisherService publisherService;
+    private final CatalogResponseCache catalogResponseCache;
 
-    public PublisherController(PublisherService publisherService) {
+    public PublisherController(PublisherService publisherService, CatalogResponseCache catalogResponseCache) {
         this.publisherService = publisherService;
+        this.catalogResponseCache = catalogResponseCache;
     }
 
     @GetMapping
-    public List<Publisher> getAllPublishers() {
-        return publisherService.getAllPublishers();
+    public ResponseEntity<byte[]> getAllPublishers(WebRequest request) {
+        String signature = CatalogResponseCache.signature("publishers");
+        String etag = catalogResponseCache.etag(signature);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        CatalogResponseCache.CachedResponse response = catalogResponseCache.get(signature,
+                publisherService::getAllPublishers);
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
     }
 
     @GetMapping("/{id}")
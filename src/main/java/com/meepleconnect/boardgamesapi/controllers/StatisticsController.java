@@ -1,11 +1,14 @@
 package com.meepleconnect.boardgamesapi.controllers;
 
+import com.meepleconnect.boardgamesapi.models.DashboardCounts;
 import com.meepleconnect.boardgamesapi.services.BoardgameService;
 import com.meepleconnect.boardgamesapi.services.ReservationService;
-import com.meepleconnect.boardgamesapi.services.UserService;
+import com.meepleconnect.boardgamesapi.services.StatisticsService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -15,25 +18,28 @@ public class StatisticsController {
 
     private final BoardgameService boardgameService;
     private final ReservationService reservationService;
-    private final UserService userService;
+    private final StatisticsService statisticsService;
 
     public StatisticsController(BoardgameService boardgameService,
             ReservationService reservationService,
-            UserService userService) {
+            StatisticsService statisticsService) {
         this.boardgameService = boardgameService;
         this.reservationService = reservationService;
-        this.userService = userService;
+        this.statisticsService = statisticsService;
     }
 
     @GetMapping("/dashboard")
     public ResponseEntity<Map<String, Object>> getDashboardStatistics() {
+        DashboardCounts dashboard = statisticsService.getDashboardStatistics();
         Map<String, Object> statistics = new HashMap<>();
 
-        statistics.put("totalBoardgames", boardgameService.getTotalBoardgamesCount());
-        statistics.put("availableBoardgames", boardgameService.getAvailableBoardgamesCount());
-        statistics.put("totalReservations", reservationService.getTotalReservationsCount());
-        statistics.put("totalUsers", userService.getTotalUsersCount());
-        statistics.put("activeReservations", reservationService.getActiveReservationsCount());
+        statistics.put("totalBoardgames", dashboard.totalBoardgames());
+        statistics.put("availableBoardgames", dashboard.availableBoardgames());
+        statistics.put("totalReservations", dashboard.totalReservations());
+        statistics.put("totalUsers", dashboard.totalUsers());
+        statistics.put("activeReservations", dashboard.activeReservations());
+        statistics.put("reconciledAt", dashboard.reconciledAt().toString());
+        statistics.put("stalenessSeconds", Duration.between(dashboard.reconciledAt(), Instant.now()).toSeconds());
 
         return ResponseEntity.ok(statistics);
     }
@@ -49,4 +55,16 @@ public class StatisticsController {
         Map<String, Object> monthlyStats = reservationService.getMonthlyReservations(year, month);
         return ResponseEntity.ok(monthlyStats);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/reservations/yearly")
+    public ResponseEntity<Map<String, Object>> getYearlyReservations(@RequestParam int year) {
+        Map<String, Object> yearlyStats = reservationService.getYearlyReservations(year);
+        return ResponseEntity.ok(yearlyStats);
+    }
+
+    @PostMapping("/reservations/rollup/rebuild")
+    public ResponseEntity<Void> rebuildReservationRollup() {
+        statisticsService.rebuildReservationRollup();
+        return ResponseEntity.noContent().build();
+    }
+}
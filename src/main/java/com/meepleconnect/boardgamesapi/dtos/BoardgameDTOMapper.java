@@ -1,6 +1,10 @@
 package com.meepleconnect.boardgamesapi.dtos;
 
 import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameFacets;
+import com.meepleconnect.boardgamesapi.models.BoardgameListing;
+import com.meepleconnect.boardgamesapi.models.BoardgamePage;
+import com.meepleconnect.boardgamesapi.models.BoardgameSearchCriteria;
 import com.meepleconnect.boardgamesapi.models.Publisher;
 import com.meepleconnect.boardgamesapi.repositories.PublisherRepository;
 import org.springframework.stereotype.Component;
@@ -40,7 +44,38 @@ public class BoardgameDTOMapper {
         return dto;
     }
 
+    public BoardgameResponseDTO toResponseDTO(BoardgameListing listing) {
+        BoardgameResponseDTO dto = new BoardgameResponseDTO();
+        dto.setId(listing.id());
+        dto.setName(listing.name());
+        dto.setPrice(listing.price());
+        dto.setMinPlayers(listing.minPlayers());
+        dto.setMaxPlayers(listing.maxPlayers());
+        dto.setGenre(listing.genre());
+        dto.setAvailable(listing.available());
+
+        PublisherResponseDTO publisherDTO = new PublisherResponseDTO();
+        publisherDTO.setId(listing.publisherId());
+        publisherDTO.setName(listing.publisherName());
+        publisherDTO.setCountryOfOrigin(listing.publisherCountryOfOrigin());
+        publisherDTO.setFounded(listing.publisherFounded());
+        publisherDTO.setIsIndie(listing.publisherIndie());
+        dto.setPublisher(publisherDTO);
+
+        return dto;
+    }
+
     public Boardgame toEntity(BoardgameRequestDTO dto) {
+        Publisher publisher = null;
+        if (dto.getPublisherId() != null) {
+            publisher = publisherRepository.findById(dto.getPublisherId())
+                    .orElseThrow(
+                            () -> new IllegalArgumentException("Publisher not found with ID: " + dto.getPublisherId()));
+        }
+        return toEntity(dto, publisher);
+    }
+
+    public Boardgame toEntity(BoardgameRequestDTO dto, Publisher publisher) {
         Boardgame boardgame = new Boardgame();
         boardgame.setName(dto.getName());
         boardgame.setPrice(dto.getPrice());
@@ -48,14 +83,7 @@ public class BoardgameDTOMapper {
         boardgame.setMaxPlayers(dto.getMaxPlayers());
         boardgame.setGenre(dto.getGenre());
         boardgame.setAvailable(dto.getAvailable());
-
-        if (dto.getPublisherId() != null) {
-            Publisher publisher = publisherRepository.findById(dto.getPublisherId())
-                    .orElseThrow(
-                            () -> new IllegalArgumentException("Publisher not found with ID: " + dto.getPublisherId()));
-            boardgame.setPublisher(publisher);
-        }
-
+        boardgame.setPublisher(publisher);
         return boardgame;
     }
 
@@ -64,4 +92,44 @@ public class BoardgameDTOMapper {
                 .map(this::toResponseDTO)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    public List<BoardgameResponseDTO> toListingResponseDTOList(List<BoardgameListing> listings) {
+        return listings.stream()
+                .map(this::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    public BoardgamePageResponseDTO toPageResponseDTO(BoardgamePage page) {
+        BoardgamePageResponseDTO dto = new BoardgamePageResponseDTO();
+        dto.setItems(toResponseDTOList(page.boardgames()));
+        dto.setSize(page.boardgames().size());
+        dto.setHasMore(page.hasMore());
+        dto.setNextCursor(page.nextCursor());
+        return dto;
+    }
+
+    public BoardgameSearchCriteria toSearchCriteria(BoardgameSearchRequestDTO dto) {
+        return new BoardgameSearchCriteria(
+                dto.getName(),
+                dto.getGenre(),
+                dto.getAvailable(),
+                dto.getMinPlayers(),
+                dto.getMaxPlayers(),
+                dto.getMinPrice(),
+                dto.getMaxPrice(),
+                dto.getSort(),
+                "desc".equalsIgnoreCase(dto.getDirection()),
+                dto.getPage(),
+                dto.getSize());
+    }
+
+    public BoardgameFacetsResponseDTO toFacetsResponseDTO(BoardgameFacets facets) {
+        BoardgameFacetsResponseDTO dto = new BoardgameFacetsResponseDTO();
+        dto.setTotal(facets.total());
+        dto.setGenres(facets.genres());
+        dto.setPlayerCounts(facets.playerCounts());
+        dto.setPriceRanges(facets.priceRanges());
+        dto.setAvailability(facets.availability());
+        return dto;
+    }
+}
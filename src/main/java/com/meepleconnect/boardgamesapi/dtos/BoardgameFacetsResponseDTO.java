@@ -0,0 +1,13 @@
+package com.meepleconnect.boardgamesapi.dtos;
+
+import lombok.Data;
+import java.util.Map;
+
+@Data
+public class BoardgameFacetsResponseDTO {
+    private long total;
+    private Map<String, Long> genres;
+    private Map<String, Long> playerCounts;
+    private Map<String, Long> priceRanges;
+    private Map<String, Long> availability;
+}
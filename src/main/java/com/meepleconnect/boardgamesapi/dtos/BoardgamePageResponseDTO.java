@@ -0,0 +1,12 @@
+package com.meepleconnect.boardgamesapi.dtos;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class BoardgamePageResponseDTO {
+    private List<BoardgameResponseDTO> items;
+    private Integer size;
+    private Boolean hasMore;
+    private String nextCursor;
+}
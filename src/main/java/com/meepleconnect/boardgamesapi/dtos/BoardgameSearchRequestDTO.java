@@ -0,0 +1,42 @@
+package com.meepleconnect.boardgamesapi.dtos;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+import java.math.BigDecimal;
+
+@Data
+public class BoardgameSearchRequestDTO {
+
+    private String name;
+
+    private String genre;
+
+    private Boolean available;
+
+    @Min(value = 1, message = "Minimum number of players must be at least 1")
+    private Integer minPlayers;
+
+    @Min(value = 1, message = "Maximum number of players must be at least 1")
+    private Integer maxPlayers;
+
+    @DecimalMin(value = "0.00", message = "Minimum price cannot be negative")
+    private BigDecimal minPrice;
+
+    @DecimalMin(value = "0.00", message = "Maximum price cannot be negative")
+    private BigDecimal maxPrice;
+
+    @Pattern(regexp = "relevance|id|name|price|minPlayers|maxPlayers",
+            message = "Sort must be one of relevance, id, name, price, minPlayers or maxPlayers")
+    private String sort;
+
+    @Pattern(regexp = "(?i)asc|desc", message = "Direction must be asc or desc")
+    private String direction;
+
+    @Min(value = 0, message = "Page cannot be negative")
+    private Integer page;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    private Integer size;
+}
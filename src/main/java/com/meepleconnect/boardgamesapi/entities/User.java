@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
 
@@ -39,6 +40,10 @@ public class User {
     @Column(nullable = false)
     private boolean isEnabled = true;
 
+    @Column(name = "token_version", nullable = false)
+    @ColumnDefault("0")
+    private int tokenVersion = 0;
+
     public User(Long id) {
         this.id = id;
     }
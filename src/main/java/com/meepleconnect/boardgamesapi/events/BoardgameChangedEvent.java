@@ -0,0 +1,25 @@
+package com.meepleconnect.boardgamesapi.events;
+
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+
+public record BoardgameChangedEvent(ChangeType type, Long boardgameId, Boardgame boardgame,
+        Boolean previouslyAvailable) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static BoardgameChangedEvent created(Boardgame boardgame) {
+        return new BoardgameChangedEvent(ChangeType.CREATED, boardgame.getId(), boardgame, null);
+    }
+
+    public static BoardgameChangedEvent updated(Boardgame boardgame, boolean previouslyAvailable) {
+        return new BoardgameChangedEvent(ChangeType.UPDATED, boardgame.getId(), boardgame, previouslyAvailable);
+    }
+
+    public static BoardgameChangedEvent deleted(Long boardgameId, boolean previouslyAvailable) {
+        return new BoardgameChangedEvent(ChangeType.DELETED, boardgameId, null, previouslyAvailable);
+    }
+}
@@ -0,0 +1,29 @@
+package com.meepleconnect.boardgamesapi.events;
+
+import com.meepleconnect.boardgamesapi.models.Reservation;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record ReservationChangedEvent(ChangeType type, Long reservationId, LocalDate reservationDate,
+        Instant createdAt, Long boardgameId, String boardgameName, String genre, int participantCount) {
+
+    public enum ChangeType {
+        CREATED,
+        CANCELLED
+    }
+
+    public static ReservationChangedEvent created(Reservation reservation) {
+        return of(ChangeType.CREATED, reservation);
+    }
+
+    public static ReservationChangedEvent cancelled(Reservation reservation) {
+        return of(ChangeType.CANCELLED, reservation);
+    }
+
+    private static ReservationChangedEvent of(ChangeType type, Reservation reservation) {
+        return new ReservationChangedEvent(type, reservation.getId(), reservation.getReservationDate(),
+                reservation.getCreatedAt(), reservation.getBoardgame().getId(), reservation.getBoardgame().getName(),
+                reservation.getBoardgame().getGenre(), reservation.getParticipantCount());
+    }
+}
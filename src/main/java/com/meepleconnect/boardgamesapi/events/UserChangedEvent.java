@@ -0,0 +1,22 @@
+package com.meepleconnect.boardgamesapi.events;
+
+public record UserChangedEvent(ChangeType type, Long userId) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static UserChangedEvent created(Long userId) {
+        return new UserChangedEvent(ChangeType.CREATED, userId);
+    }
+
+    public static UserChangedEvent updated(Long userId) {
+        return new UserChangedEvent(ChangeType.UPDATED, userId);
+    }
+
+    public static UserChangedEvent deleted(Long userId) {
+        return new UserChangedEvent(ChangeType.DELETED, userId);
+    }
+}
@@ -0,0 +1,11 @@
+package com.meepleconnect.boardgamesapi.exceptions;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException() {
+        super("Too many requests");
+    }
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
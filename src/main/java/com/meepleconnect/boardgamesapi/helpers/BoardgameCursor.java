@@ -0,0 +1,42 @@
+package com.meepleconnect.boardgamesapi.helpers;
+
+import com.meepleconnect.boardgamesapi.exceptions.BadRequestException;
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record BoardgameCursor(String sort, Long id, String name) {
+
+    public static final String SORT_BY_ID = "id";
+    public static final String SORT_BY_NAME = "name";
+
+    public static BoardgameCursor after(String sort, Boardgame boardgame) {
+        return new BoardgameCursor(sort, boardgame.getId(), SORT_BY_NAME.equals(sort) ? boardgame.getName() : null);
+    }
+
+    public String encode() {
+        String raw = SORT_BY_NAME.equals(sort) ? sort + ":" + id + ":" + name : sort + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BoardgameCursor decode(String token, String expectedSort) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid page cursor.");
+        }
+
+        String[] parts = raw.split(":", 3);
+        if (!parts[0].equals(expectedSort) || parts.length != (SORT_BY_NAME.equals(expectedSort) ? 3 : 2)) {
+            throw new BadRequestException("Page cursor does not match sort '" + expectedSort + "'.");
+        }
+
+        try {
+            return new BoardgameCursor(parts[0], Long.parseLong(parts[1]), parts.length == 3 ? parts[2] : null);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid page cursor.");
+        }
+    }
+}
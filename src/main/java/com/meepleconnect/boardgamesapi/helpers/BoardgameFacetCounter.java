@@ -0,0 +1,78 @@
+package com.meepleconnect.boardgamesapi.helpers;
+
+import com.meepleconnect.boardgamesapi.models.BoardgameFacets;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class BoardgameFacetCounter {
+
+    private static final String[] PRICE_RANGE_LABELS = {"0-20", "20-40", "40-60", "60+"};
+    private static final long[] PRICE_RANGE_BOUNDS_CENTS = {2000, 4000, 6000};
+    private static final int[][] PLAYER_COUNT_RANGES = {{1, 1}, {2, 2}, {3, 4}, {5, 6}, {7, Integer.MAX_VALUE}};
+    private static final String[] PLAYER_COUNT_LABELS = {"1", "2", "3-4", "5-6", "7+"};
+
+    private final Map<String, String> genreLabels = new TreeMap<>();
+    private final Map<String, Long> genreCounts = new TreeMap<>();
+    private final long[] playerCountCounts = new long[PLAYER_COUNT_RANGES.length];
+    private final long[] priceRangeCounts = new long[PRICE_RANGE_LABELS.length];
+    private long availableCount;
+    private long unavailableCount;
+
+    public static int priceRange(long priceCents) {
+        int range = 0;
+        while (range < PRICE_RANGE_BOUNDS_CENTS.length && priceCents >= PRICE_RANGE_BOUNDS_CENTS[range]) {
+            range++;
+        }
+        return range;
+    }
+
+    public static int priceRange(BigDecimal price) {
+        return priceRange(price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue());
+    }
+
+    public void add(String genre, boolean available, int minPlayers, int maxPlayers, int priceRange, long count) {
+        String key = genre.toLowerCase(Locale.ROOT);
+        genreLabels.putIfAbsent(key, genre);
+        genreCounts.merge(key, count, Long::sum);
+
+        for (int i = 0; i < PLAYER_COUNT_RANGES.length; i++) {
+            if (minPlayers <= PLAYER_COUNT_RANGES[i][1] && maxPlayers >= PLAYER_COUNT_RANGES[i][0]) {
+                playerCountCounts[i] += count;
+            }
+        }
+        priceRangeCounts[priceRange] += count;
+
+        if (available) {
+            availableCount += count;
+        } else {
+            unavailableCount += count;
+        }
+    }
+
+    public BoardgameFacets toFacets() {
+        Map<String, Long> genres = new LinkedHashMap<>();
+        genreCounts.forEach((key, count) -> genres.put(genreLabels.get(key), count));
+
+        Map<String, Long> playerCounts = new LinkedHashMap<>();
+        for (int i = 0; i < PLAYER_COUNT_LABELS.length; i++) {
+            playerCounts.put(PLAYER_COUNT_LABELS[i], playerCountCounts[i]);
+        }
+
+        Map<String, Long> priceRanges = new LinkedHashMap<>();
+        for (int i = 0; i < PRICE_RANGE_LABELS.length; i++) {
+            priceRanges.put(PRICE_RANGE_LABELS[i], priceRangeCounts[i]);
+        }
+
+        Map<String, Long> availability = new LinkedHashMap<>();
+        availability.put("available", availableCount);
+        availability.put("unavailable", unavailableCount);
+
+        return new BoardgameFacets(availableCount + unavailableCount, genres, playerCounts, priceRanges,
+                availability);
+    }
+}
@@ -0,0 +1,33 @@
+package com.meepleconnect.boardgamesapi.helpers;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class EntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void evict(Class<?> entityType, Object id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(entityType, id);
+                }
+            });
+        } else {
+            evictNow(entityType, id);
+        }
+    }
+
+    private void evictNow(Class<?> entityType, Object id) {
+        entityManagerFactory.getCache().evict(entityType, id);
+    }
+}
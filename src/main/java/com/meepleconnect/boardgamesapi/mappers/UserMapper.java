@@ -3,6 +3,7 @@ package com.meepleconnect.boardgamesapi.mappers;
 import com.meepleconnect.boardgamesapi.entities.User;
 import com.meepleconnect.boardgamesapi.models.UserModel;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
 @Mapper(componentModel = "spring", uses = { RoleMapper.class })
@@ -12,5 +13,6 @@ public interface UserMapper {
 
     UserModel fromEntity(User entity);
 
+    @Mapping(target = "tokenVersion", ignore = true)
     User toEntity(UserModel model);
 }
\ No newline at end of file
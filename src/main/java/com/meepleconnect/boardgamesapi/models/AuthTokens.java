@@ -0,0 +1,4 @@
+package com.meepleconnect.boardgamesapi.models;
+
+public record AuthTokens(String accessToken, String refreshToken) {
+}
@@ -1,15 +1,26 @@
 package com.meepleconnect.boardgamesapi.models;
 
+import com.meepleconnect.boardgamesapi.search.CatalogChangeListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "boardgames")
+@Table(name = "boardgames", indexes = {
+        @Index(name = "idx_boardgames_genre", columnList = "genre"),
+        @Index(name = "idx_boardgames_available_players", columnList = "available, min_players, max_players"),
+        @Index(name = "idx_boardgames_name_id", columnList = "name, id")
+})
+@EntityListeners(CatalogChangeListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "boardgames")
 public class Boardgame {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "boardgames_seq")
+    @SequenceGenerator(name = "boardgames_seq", sequenceName = "boardgames_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Name is required")
@@ -0,0 +1,19 @@
+package com.meepleconnect.boardgamesapi.models;
+
+import java.math.BigDecimal;
+
+public interface BoardgameCatalogView {
+    Long getId();
+
+    String getName();
+
+    BigDecimal getPrice();
+
+    int getMinPlayers();
+
+    int getMaxPlayers();
+
+    String getGenre();
+
+    boolean isAvailable();
+}
@@ -0,0 +1,12 @@
+package com.meepleconnect.boardgamesapi.models;
+
+import java.math.BigDecimal;
+
+public record BoardgameFacetRow(
+        String genre,
+        boolean available,
+        int minPlayers,
+        int maxPlayers,
+        BigDecimal price,
+        long count) {
+}
@@ -0,0 +1,11 @@
+package com.meepleconnect.boardgamesapi.models;
+
+import java.util.Map;
+
+public record BoardgameFacets(
+        long total,
+        Map<String, Long> genres,
+        Map<String, Long> playerCounts,
+        Map<String, Long> priceRanges,
+        Map<String, Long> availability) {
+}
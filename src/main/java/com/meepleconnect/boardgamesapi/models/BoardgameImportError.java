@@ -0,0 +1,9 @@
+package com.meepleconnect.boardgamesapi.models;
+
+import java.util.List;
+
+public record BoardgameImportError(
+        long row,
+        String name,
+        List<String> messages) {
+}
@@ -0,0 +1,11 @@
+package com.meepleconnect.boardgamesapi.models;
+
+import java.util.List;
+
+public record BoardgameImportResult(
+        long received,
+        long imported,
+        long rejected,
+        List<BoardgameImportError> errors,
+        boolean errorsTruncated) {
+}
@@ -0,0 +1,18 @@
+package com.meepleconnect.boardgamesapi.models;
+
+import java.math.BigDecimal;
+
+public record BoardgameListing(
+        Long id,
+        String name,
+        BigDecimal price,
+        int minPlayers,
+        int maxPlayers,
+        String genre,
+        boolean available,
+        Long publisherId,
+        String publisherName,
+        String publisherCountryOfOrigin,
+        int publisherFounded,
+        boolean publisherIndie) {
+}
@@ -0,0 +1,7 @@
+package com.meepleconnect.boardgamesapi.models;
+
+public interface BoardgameNameView {
+    Long getId();
+
+    String getName();
+}
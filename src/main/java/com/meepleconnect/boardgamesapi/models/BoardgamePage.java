@@ -0,0 +1,10 @@
+package com.meepleconnect.boardgamesapi.models;
+
+import java.util.List;
+
+public record BoardgamePage(List<Boardgame> boardgames, String nextCursor) {
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
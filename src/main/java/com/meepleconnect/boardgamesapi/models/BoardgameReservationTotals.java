@@ -0,0 +1,9 @@
+package com.meepleconnect.boardgamesapi.models;
+
+public interface BoardgameReservationTotals {
+    Long getBoardgameId();
+
+    String getName();
+
+    long getReservationCount();
+}
@@ -0,0 +1,31 @@
+package com.meepleconnect.boardgamesapi.models;
+
+import java.math.BigDecimal;
+
+public record BoardgameSearchCriteria(
+        String name,
+        String genre,
+        Boolean available,
+        Integer minPlayers,
+        Integer maxPlayers,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        String sort,
+        boolean descending,
+        Integer page,
+        Integer size) {
+
+    public static final String SORT_BY_RELEVANCE = "relevance";
+
+    public boolean hasName() {
+        return name != null && !name.trim().isEmpty();
+    }
+
+    public boolean sortByRelevance() {
+        return hasName() && (sort == null || SORT_BY_RELEVANCE.equals(sort));
+    }
+
+    public boolean isPaged() {
+        return page != null || size != null;
+    }
+}
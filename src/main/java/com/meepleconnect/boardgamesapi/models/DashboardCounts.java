@@ -0,0 +1,12 @@
+package com.meepleconnect.boardgamesapi.models;
+
+import java.time.Instant;
+
+public record DashboardCounts(
+        long totalBoardgames,
+        long availableBoardgames,
+        long totalReservations,
+        long activeReservations,
+        long totalUsers,
+        Instant reconciledAt) {
+}
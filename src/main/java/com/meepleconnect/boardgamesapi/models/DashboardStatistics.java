@@ -0,0 +1,13 @@
+package com.meepleconnect.boardgamesapi.models;
+
+public interface DashboardStatistics {
+    long getTotalBoardgames();
+
+    long getAvailableBoardgames();
+
+    long getTotalReservations();
+
+    long getActiveReservations();
+
+    long getTotalUsers();
+}
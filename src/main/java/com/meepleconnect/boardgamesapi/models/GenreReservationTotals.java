@@ -0,0 +1,7 @@
+package com.meepleconnect.boardgamesapi.models;
+
+public interface GenreReservationTotals {
+    String getGenre();
+
+    long getReservationCount();
+}
@@ -0,0 +1,9 @@
+package com.meepleconnect.boardgamesapi.models;
+
+public interface MonthlyReservationTotals {
+    int getMonth();
+
+    long getReservationCount();
+
+    long getParticipantCount();
+}
@@ -0,0 +1,4 @@
+package com.meepleconnect.boardgamesapi.models;
+
+public record PopularBoardgame(Long id, String name, String genre, double popularityScore) {
+}
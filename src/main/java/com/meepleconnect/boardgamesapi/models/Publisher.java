@@ -1,10 +1,16 @@
 package com.meepleconnect.boardgamesapi.models;
 
+import com.meepleconnect.boardgamesapi.search.CatalogChangeListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.*;
 
 @Entity
 @Table(name = "publishers")
+@EntityListeners(CatalogChangeListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "publishers")
 public class Publisher {
 
     @Id
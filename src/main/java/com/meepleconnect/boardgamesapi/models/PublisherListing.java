@@ -0,0 +1,9 @@
+package com.meepleconnect.boardgamesapi.models;
+
+public record PublisherListing(
+        Long id,
+        String name,
+        String countryOfOrigin,
+        int founded,
+        boolean indie) {
+}
@@ -4,10 +4,15 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.meepleconnect.boardgamesapi.entities.User;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+        @Index(name = "idx_reservations_reservation_date", columnList = "reservation_date"),
+        @Index(name = "idx_reservations_created_at", columnList = "created_at"),
+        @Index(name = "idx_reservations_customer_date", columnList = "customer_id, reservation_date")
+})
 public class Reservation {
 
     @Id
@@ -41,6 +46,9 @@ public class Reservation {
     @Column(name = "notes", length = 500)
     private String notes;
 
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
     public Reservation() {
     }
 
@@ -53,6 +61,13 @@ public class Reservation {
         this.notes = notes;
     }
 
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+    }
+
     public Long getId() {
         return id;
     }
@@ -100,4 +115,12 @@ public class Reservation {
     public void setNotes(String notes) {
         this.notes = notes;
     }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
 }
@@ -0,0 +1,13 @@
+package com.meepleconnect.boardgamesapi.models;
+
+import java.time.Instant;
+
+public interface ReservationActivity {
+    Long getBoardgameId();
+
+    String getName();
+
+    String getGenre();
+
+    Instant getCreatedAt();
+}
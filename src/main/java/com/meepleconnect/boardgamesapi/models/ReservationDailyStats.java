@@ -0,0 +1,89 @@
+package com.meepleconnect.boardgamesapi.models;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "reservation_daily_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reservation_daily_stats_date_boardgame", columnNames = { "stat_date",
+                "boardgame_id" })
+}, indexes = {
+        @Index(name = "idx_reservation_daily_stats_boardgame_id", columnList = "boardgame_id")
+})
+public class ReservationDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "boardgame_id", nullable = false)
+    private Long boardgameId;
+
+    @Column(name = "genre")
+    private String genre;
+
+    @Column(name = "reservation_count", nullable = false)
+    private long reservationCount;
+
+    @Column(name = "participant_count", nullable = false)
+    private long participantCount;
+
+    public ReservationDailyStats() {
+    }
+
+    public ReservationDailyStats(LocalDate statDate, Long boardgameId, String genre, long reservationCount,
+            long participantCount) {
+        this.statDate = statDate;
+        this.boardgameId = boardgameId;
+        this.genre = genre;
+        this.reservationCount = reservationCount;
+        this.participantCount = participantCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public void setStatDate(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    public Long getBoardgameId() {
+        return boardgameId;
+    }
+
+    public void setBoardgameId(Long boardgameId) {
+        this.boardgameId = boardgameId;
+    }
+
+    public String getGenre() {
+        return genre;
+    }
+
+    public void setGenre(String genre) {
+        this.genre = genre;
+    }
+
+    public long getReservationCount() {
+        return reservationCount;
+    }
+
+    public void setReservationCount(long reservationCount) {
+        this.reservationCount = reservationCount;
+    }
+
+    public long getParticipantCount() {
+        return participantCount;
+    }
+
+    public void setParticipantCount(long participantCount) {
+        this.participantCount = participantCount;
+    }
+}
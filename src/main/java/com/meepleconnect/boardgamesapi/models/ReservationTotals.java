@@ -0,0 +1,7 @@
+package com.meepleconnect.boardgamesapi.models;
+
+public interface ReservationTotals {
+    long getReservationCount();
+
+    long getParticipantCount();
+}
@@ -0,0 +1,36 @@
+package com.meepleconnect.boardgamesapi.models;
+
+import com.meepleconnect.boardgamesapi.exceptions.BadRequestException;
+
+import java.time.Duration;
+import java.util.Locale;
+
+public enum TrendingWindow {
+    HOUR(Duration.ofMinutes(5), 12),
+    DAY(Duration.ofHours(1), 24),
+    WEEK(Duration.ofDays(1), 7);
+
+    private final Duration bucketSize;
+    private final int buckets;
+
+    TrendingWindow(Duration bucketSize, int buckets) {
+        this.bucketSize = bucketSize;
+        this.buckets = buckets;
+    }
+
+    public Duration getBucketSize() {
+        return bucketSize;
+    }
+
+    public int getBuckets() {
+        return buckets;
+    }
+
+    public static TrendingWindow from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unknown trending window '" + value + "'.");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.meepleconnect.boardgamesapi.repositories;
+
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameFacetRow;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface BoardgameFacetRepository {
+    List<BoardgameFacetRow> findFacetRows(Specification<Boardgame> specification);
+}
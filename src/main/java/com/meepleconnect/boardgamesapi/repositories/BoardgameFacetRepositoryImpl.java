@@ -0,0 +1,56 @@
+package com.meepleconnect.boardgamesapi.repositories;
+
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameFacetRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class BoardgameFacetRepositoryImpl implements BoardgameFacetRepository {
+
+    private final EntityManager entityManager;
+
+    public BoardgameFacetRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<BoardgameFacetRow> findFacetRows(Specification<Boardgame> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Boardgame> root = query.from(Boardgame.class);
+
+        query.multiselect(
+                root.get("genre"),
+                root.get("available"),
+                root.get("minPlayers"),
+                root.get("maxPlayers"),
+                root.get("price"),
+                cb.count(root));
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.groupBy(root.get("genre"), root.get("available"), root.get("minPlayers"), root.get("maxPlayers"),
+                root.get("price"));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> new BoardgameFacetRow(
+                        tuple.get(0, String.class),
+                        tuple.get(1, Boolean.class),
+                        tuple.get(2, Integer.class),
+                        tuple.get(3, Integer.class),
+                        tuple.get(4, BigDecimal.class),
+                        tuple.get(5, Long.class)))
+                .toList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.meepleconnect.boardgamesapi.repositories;
+
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameListing;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface BoardgameListingRepository {
+    List<BoardgameListing> findListings(Specification<Boardgame> specification);
+
+    List<Long> findIds(Specification<Boardgame> specification);
+}
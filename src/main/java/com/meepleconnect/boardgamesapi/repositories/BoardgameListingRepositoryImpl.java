@@ -0,0 +1,71 @@
+package com.meepleconnect.boardgamesapi.repositories;
+
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameListing;
+import com.meepleconnect.boardgamesapi.models.Publisher;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class BoardgameListingRepositoryImpl implements BoardgameListingRepository {
+
+    private final EntityManager entityManager;
+
+    public BoardgameListingRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<BoardgameListing> findListings(Specification<Boardgame> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BoardgameListing> query = cb.createQuery(BoardgameListing.class);
+        Root<Boardgame> root = query.from(Boardgame.class);
+        Join<Boardgame, Publisher> publisher = root.join("publisher");
+
+        query.select(cb.construct(BoardgameListing.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("price"),
+                root.get("minPlayers"),
+                root.get("maxPlayers"),
+                root.get("genre"),
+                root.get("available"),
+                publisher.get("id"),
+                publisher.get("name"),
+                publisher.get("countryOfOrigin"),
+                publisher.get("founded"),
+                publisher.get("isIndie")));
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Boardgame> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Boardgame> root = query.from(Boardgame.class);
+
+        query.select(root.get("id"));
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        return entityManager.createQuery(query).getResultList();
+    }
+}
@@ -1,18 +1,99 @@
 package com.meepleconnect.boardgamesapi.repositories;
 
 import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameCatalogView;
+import com.meepleconnect.boardgamesapi.models.BoardgameListing;
+import com.meepleconnect.boardgamesapi.models.BoardgameNameView;
+import com.meepleconnect.boardgamesapi.models.DashboardStatistics;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Repository
-public interface BoardgameRepository extends JpaRepository<Boardgame, Long> {
+public interface BoardgameRepository extends JpaRepository<Boardgame, Long>, JpaSpecificationExecutor<Boardgame>,
+        BoardgameFacetRepository, BoardgameListingRepository {
+    @Override
+    @EntityGraph(attributePaths = "publisher")
+    List<Boardgame> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "publisher")
+    List<Boardgame> findAllById(Iterable<Long> ids);
+
+    @Override
+    @EntityGraph(attributePaths = "publisher")
+    List<Boardgame> findAll(Specification<Boardgame> specification);
+
+    @Override
+    @EntityGraph(attributePaths = "publisher")
+    List<Boardgame> findAll(Specification<Boardgame> specification, Sort sort);
+
+    @Override
+    @EntityGraph(attributePaths = "publisher")
+    Page<Boardgame> findAll(Specification<Boardgame> specification, Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "publisher")
+    <S extends Boardgame, R> R findBy(Specification<Boardgame> specification,
+            Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction);
+
+    @EntityGraph(attributePaths = "publisher")
     List<Boardgame> findByGenreIgnoreCase(String genre);
+
+    @EntityGraph(attributePaths = "publisher")
     List<Boardgame> findByAvailable(boolean available);
+
+    @EntityGraph(attributePaths = "publisher")
     List<Boardgame> findByMinPlayersGreaterThanEqual(int minPlayers);
+
+    @EntityGraph(attributePaths = "publisher")
     List<Boardgame> findByMaxPlayersLessThanEqual(int maxPlayers);
+
     Optional<Boardgame> findByNameIgnoreCase(String name);
+
+    @Query("select lower(b.name) from Boardgame b where lower(b.name) in :names")
+    List<String> findExistingLowerNames(@Param("names") Collection<String> names);
+    List<BoardgameNameView> findAllProjectedBy();
+
+    List<BoardgameNameView> findProjectedByIdIn(Collection<Long> ids);
+    List<BoardgameCatalogView> findCatalogViewsBy();
+    long countByAvailable(boolean available);
+
+    @Query("""
+            select new com.meepleconnect.boardgamesapi.models.BoardgameListing(
+                   b.id, b.name, b.price, b.minPlayers, b.maxPlayers, b.genre, b.available,
+                   p.id, p.name, p.countryOfOrigin, p.founded, p.isIndie)
+            from Boardgame b join b.publisher p
+            order by b.id
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<BoardgameListing> streamListingsBy();
+
+    @Query("""
+            select (select count(b) from Boardgame b) as totalBoardgames,
+                   (select count(b) from Boardgame b where b.available = true) as availableBoardgames,
+                   (select count(r) from Reservation r) as totalReservations,
+                   (select count(r) from Reservation r where r.reservationDate > :today) as activeReservations,
+                   (select count(u) from User u) as totalUsers
+            """)
+    DashboardStatistics findDashboardStatistics(@Param("today") LocalDate today);
 }
 
@@ -0,0 +1,87 @@
+package com.meepleconnect.boardgamesapi.repositories;
+
+import com.meepleconnect.boardgamesapi.helpers.BoardgameCursor;
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameSearchCriteria;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+public final class BoardgameSpecifications {
+
+    private BoardgameSpecifications() {
+    }
+
+    public static Specification<Boardgame> withFilters(String genre, Boolean available, Integer minPlayers,
+            Integer maxPlayers) {
+        return Specification.where(hasGenre(genre))
+                .and(isAvailable(available))
+                .and(minPlayersAtLeast(minPlayers))
+                .and(maxPlayersAtMost(maxPlayers));
+    }
+
+    public static Specification<Boardgame> withSearchCriteria(BoardgameSearchCriteria criteria) {
+        return withFilters(criteria.genre(), criteria.available(), criteria.minPlayers(), criteria.maxPlayers())
+                .and(priceAtLeast(criteria.minPrice()))
+                .and(priceAtMost(criteria.maxPrice()));
+    }
+
+    public static Specification<Boardgame> hasGenre(String genre) {
+        if (genre == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(cb.lower(root.get("genre")), genre.toLowerCase());
+    }
+
+    public static Specification<Boardgame> isAvailable(Boolean available) {
+        if (available == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("available"), available);
+    }
+
+    public static Specification<Boardgame> minPlayersAtLeast(Integer minPlayers) {
+        if (minPlayers == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("minPlayers"), minPlayers);
+    }
+
+    public static Specification<Boardgame> maxPlayersAtMost(Integer maxPlayers) {
+        if (maxPlayers == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("maxPlayers"), maxPlayers);
+    }
+
+    public static Specification<Boardgame> priceAtLeast(BigDecimal minPrice) {
+        if (minPrice == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+    }
+
+    public static Specification<Boardgame> priceAtMost(BigDecimal maxPrice) {
+        if (maxPrice == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+    }
+
+    public static Specification<Boardgame> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Boardgame> after(BoardgameCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (BoardgameCursor.SORT_BY_NAME.equals(cursor.sort())) {
+            return (root, query, cb) -> cb.or(
+                    cb.greaterThan(root.get("name"), cursor.name()),
+                    cb.and(cb.equal(root.get("name"), cursor.name()), cb.greaterThan(root.get("id"), cursor.id())));
+        }
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), cursor.id());
+    }
+}
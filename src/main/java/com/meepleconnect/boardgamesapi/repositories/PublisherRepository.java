@@ -1,13 +1,33 @@
 package com.meepleconnect.boardgamesapi.repositories;
 
 import com.meepleconnect.boardgamesapi.models.Publisher;
+import com.meepleconnect.boardgamesapi.models.PublisherListing;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface PublisherRepository extends JpaRepository<Publisher, Long> {
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Publisher> findAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Publisher> findByCountryOfOrigin(String countryOfOrigin);
+
     Publisher findByName(String name);
-}
\ No newline at end of file
+
+    @Query("""
+            select new com.meepleconnect.boardgamesapi.models.PublisherListing(
+                   p.id, p.name, p.countryOfOrigin, p.founded, p.isIndie)
+            from Publisher p
+            order by p.id
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<PublisherListing> findListingsBy();
+}
@@ -0,0 +1,94 @@
+package com.meepleconnect.boardgamesapi.repositories;
+
+import com.meepleconnect.boardgamesapi.models.BoardgameReservationTotals;
+import com.meepleconnect.boardgamesapi.models.GenreReservationTotals;
+import com.meepleconnect.boardgamesapi.models.MonthlyReservationTotals;
+import com.meepleconnect.boardgamesapi.models.ReservationDailyStats;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ReservationDailyStatsRepository extends JpaRepository<ReservationDailyStats, Long> {
+
+    @Modifying
+    @Query("""
+            update ReservationDailyStats s
+            set s.reservationCount = s.reservationCount + :reservations,
+                s.participantCount = s.participantCount + :participants
+            where s.statDate = :date and s.boardgameId = :boardgameId
+            """)
+    int addToDay(@Param("date") LocalDate date, @Param("boardgameId") Long boardgameId,
+            @Param("reservations") long reservations, @Param("participants") long participants);
+
+    @Modifying
+    @Query("""
+            delete from ReservationDailyStats s
+            where s.statDate = :date and s.boardgameId = :boardgameId and s.reservationCount <= 0
+            """)
+    int deleteEmptyDay(@Param("date") LocalDate date, @Param("boardgameId") Long boardgameId);
+
+    @Modifying
+    @Query("update ReservationDailyStats s set s.genre = :genre where s.boardgameId = :boardgameId")
+    int updateGenre(@Param("boardgameId") Long boardgameId, @Param("genre") String genre);
+
+    @Modifying
+    @Query("delete from ReservationDailyStats s where s.boardgameId = :boardgameId")
+    int deleteByBoardgame(@Param("boardgameId") Long boardgameId);
+
+    @Modifying
+    @Query("""
+            insert into ReservationDailyStats (statDate, boardgameId, genre, reservationCount, participantCount)
+            select r.reservationDate, b.id, b.genre, count(r), sum(r.participantCount)
+            from Reservation r join r.boardgame b
+            group by r.reservationDate, b.id, b.genre
+            """)
+    int insertFromReservations();
+
+    @Query("""
+            select month(s.statDate) as month, sum(s.reservationCount) as reservationCount,
+                   sum(s.participantCount) as participantCount
+            from ReservationDailyStats s
+            where s.statDate between :start and :end
+            group by month(s.statDate)
+            """)
+    List<MonthlyReservationTotals> sumByMonthBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @Query("""
+            select b.id as boardgameId, b.name as name, sum(s.reservationCount) as reservationCount
+            from ReservationDailyStats s join Boardgame b on b.id = s.boardgameId
+            group by b.id, b.name
+            having sum(s.reservationCount) > 0
+            order by sum(s.reservationCount) desc, b.id
+            """)
+    List<BoardgameReservationTotals> findMostReserved(Limit limit);
+
+    @Query("""
+            select b.id as boardgameId, b.name as name, coalesce(sum(s.reservationCount), 0) as reservationCount
+            from Boardgame b left join ReservationDailyStats s on s.boardgameId = b.id
+            group by b.id, b.name
+            order by coalesce(sum(s.reservationCount), 0), b.id
+            """)
+    List<BoardgameReservationTotals> findLeastReserved(Limit limit);
+
+    @Query("select count(distinct s.boardgameId) from ReservationDailyStats s where s.reservationCount > 0")
+    long countReservedBoardgames();
+
+    @Query("""
+            select s.genre as genre, sum(s.reservationCount) as reservationCount
+            from ReservationDailyStats s
+            where s.genre is not null
+            group by s.genre
+            order by sum(s.reservationCount) desc, s.genre
+            """)
+    List<GenreReservationTotals> sumByGenre();
+
+    @Query("select coalesce(sum(s.reservationCount), 0) from ReservationDailyStats s")
+    long sumReservations();
+}
@@ -1,13 +1,69 @@
 package com.meepleconnect.boardgamesapi.repositories;
 
+import com.meepleconnect.boardgamesapi.models.MonthlyReservationTotals;
 import com.meepleconnect.boardgamesapi.models.Reservation;
+import com.meepleconnect.boardgamesapi.models.ReservationActivity;
+import com.meepleconnect.boardgamesapi.models.ReservationTotals;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     List<Reservation> findByCustomerId(Long customerId);
     List<Reservation> findByBoardgameId(Long boardgameId);
+    long countByReservationDateAfter(LocalDate date);
+
+    @Query("""
+            select count(r) as reservationCount, coalesce(sum(r.participantCount), 0) as participantCount
+            from Reservation r
+            where r.reservationDate between :start and :end
+            """)
+    ReservationTotals sumByReservationDateBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @Query("""
+            select month(r.reservationDate) as month, count(r) as reservationCount,
+                   coalesce(sum(r.participantCount), 0) as participantCount
+            from Reservation r
+            where r.reservationDate between :start and :end
+            group by month(r.reservationDate)
+            """)
+    List<MonthlyReservationTotals> sumByMonthBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @Query("select count(distinct r.customer.id) from Reservation r where r.reservationDate >= :start")
+    long countCustomersFrom(@Param("start") LocalDate start);
+
+    @Query("""
+            select count(distinct r.customer.id) from Reservation r
+            where r.reservationDate between :start and :end
+            """)
+    long countCustomersBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @Query("""
+            select count(distinct r.customer.id) from Reservation r
+            where r.reservationDate between :start and :end
+            and exists (select 1 from Reservation later
+                        where later.customer = r.customer and later.reservationDate > :end)
+            """)
+    long countReturningCustomersBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @Query("""
+            select count(distinct r.customer.id) from Reservation r
+            where r.reservationDate between :start and :end
+            and not exists (select 1 from Reservation earlier
+                            where earlier.customer = r.customer and earlier.reservationDate < :start)
+            """)
+    long countFirstTimeCustomersBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @Query("""
+            select b.id as boardgameId, b.name as name, b.genre as genre, r.createdAt as createdAt
+            from Reservation r join r.boardgame b
+            where r.createdAt >= :since
+            """)
+    List<ReservationActivity> findActivitySince(@Param("since") Instant since);
 }
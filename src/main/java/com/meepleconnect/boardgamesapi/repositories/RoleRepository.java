@@ -1,12 +1,16 @@
 package com.meepleconnect.boardgamesapi.repositories;
 
 import com.meepleconnect.boardgamesapi.entities.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Role> findByRoleNameIn(List<String> names);
-}
\ No newline at end of file
+}
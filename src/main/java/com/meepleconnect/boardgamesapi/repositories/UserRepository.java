@@ -2,6 +2,9 @@ package com.meepleconnect.boardgamesapi.repositories;
 
 import com.meepleconnect.boardgamesapi.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +14,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserName(String username);
 
     Optional<User> findByUserNameAndPassword(String username, String password);
+
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("update User u set u.password = :password where u.userName = :userName")
+    int updatePassword(@Param("userName") String userName, @Param("password") String password);
 }
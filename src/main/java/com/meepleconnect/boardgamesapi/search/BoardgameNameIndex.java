@@ -0,0 +1,207 @@
+package com.meepleconnect.boardgamesapi.search;
+
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
+import com.meepleconnect.boardgamesapi.models.BoardgameNameView;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over boardgame names. Substring matches are found through the trigrams they share
+ * with the name, and the same trigram overlap gives a similarity score for typo-tolerant matches.
+ */
+@Component
+public class BoardgameNameIndex {
+
+    private static final double MIN_SIMILARITY = 0.3;
+
+    private final BoardgameRepository boardgameRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, IndexedName> names = new HashMap<>();
+
+    private List<BoardgameChangedEvent> changesDuringRebuild;
+    private volatile boolean loaded;
+
+    public BoardgameNameIndex(BoardgameRepository boardgameRepository) {
+        this.boardgameRepository = boardgameRepository;
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        changesDuringRebuild = new ArrayList<>();
+        lock.writeLock().unlock();
+        try {
+            List<BoardgameNameView> all = boardgameRepository.findAllProjectedBy();
+            lock.writeLock().lock();
+            try {
+                postings.clear();
+                names.clear();
+                for (BoardgameNameView view : all) {
+                    add(view.getId(), view.getName());
+                }
+                changesDuringRebuild.forEach(this::apply);
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            changesDuringRebuild = null;
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void warmUp() {
+        ensureLoaded();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardgameChanged(BoardgameChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(event);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> search(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        ensureLoaded();
+
+        Set<String> queryGrams = trigrams(normalized);
+        List<Match> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            if (normalized.length() < 3) {
+                names.forEach((id, name) -> {
+                    if (name.value().contains(normalized)) {
+                        matches.add(new Match(id, name.value(), score(normalized, name, 0, queryGrams.size())));
+                    }
+                });
+            } else {
+                Map<Long, Integer> shared = new HashMap<>();
+                for (String gram : queryGrams) {
+                    for (Long id : postings.getOrDefault(gram, Set.of())) {
+                        shared.merge(id, 1, Integer::sum);
+                    }
+                }
+                shared.forEach((id, count) -> {
+                    IndexedName name = names.get(id);
+                    double score = score(normalized, name, count, queryGrams.size());
+                    if (score >= MIN_SIMILARITY) {
+                        matches.add(new Match(id, name.value(), score));
+                    }
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingDouble(Match::score).reversed().thenComparing(Match::name));
+        return matches.stream().map(Match::id).toList();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private void apply(BoardgameChangedEvent event) {
+        remove(event.boardgameId());
+        if (event.type() != BoardgameChangedEvent.ChangeType.DELETED) {
+            add(event.boardgameId(), event.boardgame().getName());
+        }
+    }
+
+    private void add(Long id, String name) {
+        String normalized = normalize(name);
+        Set<String> grams = trigrams(normalized);
+        names.put(id, new IndexedName(normalized, grams.size()));
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void remove(Long id) {
+        IndexedName existing = names.remove(id);
+        if (existing == null) {
+            return;
+        }
+        for (String gram : trigrams(existing.value())) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static double score(String query, IndexedName name, int sharedGrams, int queryGrams) {
+        if (name.value().equals(query)) {
+            return 3.0;
+        }
+        double similarity = (double) sharedGrams / (queryGrams + name.gramCount() - sharedGrams);
+        if (name.value().startsWith(query)) {
+            return 2.0 + similarity;
+        }
+        if (name.value().contains(query)) {
+            return 1.0 + similarity;
+        }
+        return similarity;
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> trigrams(String normalized) {
+        String padded = "  " + normalized + " ";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private record IndexedName(String value, int gramCount) {
+    }
+
+    private record Match(Long id, String name, double score) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.meepleconnect.boardgamesapi.search;
+
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameSearchCriteria;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameSpecifications;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Resolves the name part of a search to the best-ranked games that also pass the other filters. The match cap is
+ * applied after filtering, so a game is only dropped when enough better-ranked games pass the same filters, and
+ * search results and facet counts are computed over the same ids.
+ */
+@Component
+public class BoardgameNameMatcher {
+
+    static final int ID_CHUNK_SIZE = 500;
+
+    private final BoardgameNameIndex boardgameNameIndex;
+    private final CatalogSnapshot catalogSnapshot;
+    private final BoardgameRepository boardgameRepository;
+    private final int maxNameMatches;
+
+    public BoardgameNameMatcher(BoardgameNameIndex boardgameNameIndex, CatalogSnapshot catalogSnapshot,
+            BoardgameRepository boardgameRepository,
+            @Value("${boardgames.search.max-name-matches:1000}") int maxNameMatches) {
+        this.boardgameNameIndex = boardgameNameIndex;
+        this.catalogSnapshot = catalogSnapshot;
+        this.boardgameRepository = boardgameRepository;
+        this.maxNameMatches = maxNameMatches;
+    }
+
+    public List<Long> findMatchingIds(BoardgameSearchCriteria criteria) {
+        List<Long> rankedIds = boardgameNameIndex.search(criteria.name());
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        if (catalogSnapshot.isReady()) {
+            return Arrays.stream(catalogSnapshot.selectRanked(criteria, rankedIds, maxNameMatches)).boxed().toList();
+        }
+
+        Specification<Boardgame> specification = BoardgameSpecifications.withSearchCriteria(criteria);
+        List<Long> matches = new ArrayList<>();
+        for (int from = 0; from < rankedIds.size() && matches.size() < maxNameMatches; from += ID_CHUNK_SIZE) {
+            List<Long> chunk = rankedIds.subList(from, Math.min(rankedIds.size(), from + ID_CHUNK_SIZE));
+            Set<Long> passing = new HashSet<>(
+                    boardgameRepository.findIds(specification.and(BoardgameSpecifications.idIn(chunk))));
+            for (Long id : chunk) {
+                if (passing.contains(id)) {
+                    matches.add(id);
+                    if (matches.size() == maxNameMatches) {
+                        break;
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+}
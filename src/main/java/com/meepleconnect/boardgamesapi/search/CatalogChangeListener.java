@@ -0,0 +1,23 @@
+package com.meepleconnect.boardgamesapi.search;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CatalogChangeListener {
+
+    private final CatalogResponseCache catalogResponseCache;
+
+    public CatalogChangeListener(CatalogResponseCache catalogResponseCache) {
+        this.catalogResponseCache = catalogResponseCache;
+    }
+
+    @PrePersist
+    @PreUpdate
+    @PreRemove
+    public void onCatalogChanged(Object entity) {
+        catalogResponseCache.invalidate();
+    }
+}
@@ -0,0 +1,89 @@
+package com.meepleconnect.boardgamesapi.search;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Serialized catalog listings keyed by their filter signature. Every boardgame or publisher write bumps a single
+ * catalog version, and both the cached bodies and the ETags handed to clients are tied to that version, so an
+ * unchanged catalog is answered from memory or with a 304 without calling into the service layer.
+ */
+@Component
+public class CatalogResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+    private final Cache<String, CachedResponse> responses;
+
+    public CatalogResponseCache(ObjectMapper objectMapper,
+            @Value("${catalog.response-cache.max-size:16MB}") DataSize maxSize) {
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String signature, CachedResponse response) -> response.body().length)
+                .build();
+    }
+
+    public static String signature(String resource, Object... parameters) {
+        return resource + Arrays.toString(parameters);
+    }
+
+    public String etag(String signature) {
+        return etag(version.get(), signature);
+    }
+
+    public CachedResponse get(String signature, Supplier<?> body) {
+        long current = version.get();
+        CachedResponse cached = responses.getIfPresent(signature);
+        if (cached != null && cached.version() == current) {
+            return cached;
+        }
+
+        CachedResponse response = new CachedResponse(current, etag(current, signature), serialize(body.get()));
+        responses.asMap().merge(signature, response,
+                (existing, loaded) -> existing.version() >= loaded.version() ? existing : loaded);
+        return response;
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CatalogResponseCache.this);
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private String etag(long version, String signature) {
+        return epoch + "-" + version + "-" + Integer.toHexString(signature.hashCode());
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize catalog response", e);
+        }
+    }
+
+    public record CachedResponse(long version, String etag, byte[] body) {
+    }
+}
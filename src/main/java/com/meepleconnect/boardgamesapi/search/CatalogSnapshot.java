@@ -0,0 +1,387 @@
+package com.meepleconnect.boardgamesapi.search;
+
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
+import com.meepleconnect.boardgamesapi.helpers.BoardgameFacetCounter;
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameCatalogView;
+import com.meepleconnect.boardgamesapi.models.BoardgameFacets;
+import com.meepleconnect.boardgamesapi.models.BoardgameSearchCriteria;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Column-oriented copy of the filterable boardgame fields. Every boardgame occupies one slot in the primitive
+ * columns, and filters are resolved as bitset intersections and primitive comparisons over those slots, so
+ * browsing the catalog does not touch the database until the selected page is loaded.
+ */
+@Component
+public class CatalogSnapshot {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final BoardgameRepository boardgameRepository;
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final Map<String, Integer> genreIds = new HashMap<>();
+    private final List<BitSet> slotsByGenre = new ArrayList<>();
+    private final List<String> genreLabels = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private final BitSet available = new BitSet();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int[] genres = new int[INITIAL_CAPACITY];
+    private int[] minPlayers = new int[INITIAL_CAPACITY];
+    private int[] maxPlayers = new int[INITIAL_CAPACITY];
+    private long[] priceCents = new long[INITIAL_CAPACITY];
+    private List<BoardgameChangedEvent> changesDuringRebuild;
+    private volatile boolean loaded;
+
+    public CatalogSnapshot(BoardgameRepository boardgameRepository,
+            @Value("${boardgames.catalog.snapshot.enabled:false}") boolean enabled) {
+        this.boardgameRepository = boardgameRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && loaded;
+    }
+
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        changesDuringRebuild = new ArrayList<>();
+        lock.writeLock().unlock();
+        try {
+            List<BoardgameCatalogView> all = boardgameRepository.findCatalogViewsBy();
+            lock.writeLock().lock();
+            try {
+                slotsById.clear();
+                genreIds.clear();
+                slotsByGenre.clear();
+                genreLabels.clear();
+                live.clear();
+                available.clear();
+                for (BoardgameCatalogView view : all) {
+                    put(view.getId(), view.getName(), view.getPrice(), view.getMinPlayers(), view.getMaxPlayers(),
+                            view.getGenre(), view.isAvailable());
+                }
+                // Changes committed while the catalog was read may be missing from it; applying them again is harmless.
+                changesDuringRebuild.forEach(this::apply);
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            changesDuringRebuild = null;
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardgameChanged(BoardgameChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            apply(event);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long[] select(BoardgameSearchCriteria criteria) {
+        return select(criteria, null);
+    }
+
+    public long[] select(BoardgameSearchCriteria criteria, List<Long> rankedIds) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = matchingSlots(criteria);
+            if (rankedIds == null) {
+                return sortedIds(matches, criteria.sort(), criteria.descending());
+            }
+            if (criteria.sortByRelevance()) {
+                return retainRanked(matches, rankedIds, rankedIds.size());
+            }
+            matches.and(slotsOf(rankedIds));
+            return sortedIds(matches, criteria.sort(), criteria.descending());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] selectRanked(BoardgameSearchCriteria criteria, List<Long> rankedIds, int limit) {
+        lock.readLock().lock();
+        try {
+            return retainRanked(matchingSlots(criteria), rankedIds, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public BoardgameFacets facets(BoardgameSearchCriteria criteria, List<Long> rankedIds) {
+        BoardgameFacetCounter counter = new BoardgameFacetCounter();
+        lock.readLock().lock();
+        try {
+            BitSet matches = matchingSlots(criteria);
+            if (rankedIds != null) {
+                matches.and(slotsOf(rankedIds));
+            }
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                counter.add(genreLabels.get(genres[slot]), available.get(slot), minPlayers[slot], maxPlayers[slot],
+                        BoardgameFacetCounter.priceRange(priceCents[slot]), 1);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return counter.toFacets();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet matchingSlots(BoardgameSearchCriteria criteria) {
+        BitSet matches = (BitSet) live.clone();
+        if (criteria.genre() != null) {
+            Integer genreId = genreIds.get(genreKey(criteria.genre()));
+            if (genreId == null) {
+                return new BitSet();
+            }
+            matches.and(slotsByGenre.get(genreId));
+        }
+        if (criteria.available() != null) {
+            if (criteria.available()) {
+                matches.and(available);
+            } else {
+                matches.andNot(available);
+            }
+        }
+
+        if (criteria.minPlayers() == null && criteria.maxPlayers() == null
+                && criteria.minPrice() == null && criteria.maxPrice() == null) {
+            return matches;
+        }
+
+        int minPlayersAtLeast = criteria.minPlayers() != null ? criteria.minPlayers() : Integer.MIN_VALUE;
+        int maxPlayersAtMost = criteria.maxPlayers() != null ? criteria.maxPlayers() : Integer.MAX_VALUE;
+        long minCents = criteria.minPrice() != null ? cents(criteria.minPrice(), RoundingMode.CEILING) : Long.MIN_VALUE;
+        long maxCents = criteria.maxPrice() != null ? cents(criteria.maxPrice(), RoundingMode.FLOOR) : Long.MAX_VALUE;
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            if (minPlayers[slot] < minPlayersAtLeast || maxPlayers[slot] > maxPlayersAtMost
+                    || priceCents[slot] < minCents || priceCents[slot] > maxCents) {
+                matches.clear(slot);
+            }
+        }
+        return matches;
+    }
+
+    private BitSet slotsOf(List<Long> ids) {
+        BitSet slots = new BitSet();
+        for (Long id : ids) {
+            Integer slot = slotsById.get(id);
+            if (slot != null) {
+                slots.set(slot);
+            }
+        }
+        return slots;
+    }
+
+    private long[] retainRanked(BitSet matches, List<Long> rankedIds, int limit) {
+        long[] result = new long[Math.min(rankedIds.size(), limit)];
+        int count = 0;
+        for (Long id : rankedIds) {
+            if (count == result.length) {
+                break;
+            }
+            Integer slot = slotsById.get(id);
+            if (slot != null && matches.get(slot)) {
+                result[count++] = id;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private long[] sortedIds(BitSet matches, String sort, boolean descending) {
+        SlotOrder order = slotOrder(sort);
+        if (order == null) {
+            long[] result = new long[matches.cardinality()];
+            int count = 0;
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                result[count++] = ids[slot];
+            }
+            Arrays.sort(result);
+            if (descending) {
+                reverse(result);
+            }
+            return result;
+        }
+
+        int[] slots = matches.stream().toArray();
+        SlotOrder directed = descending ? (left, right) -> order.compare(right, left) : order;
+        sortSlots(slots, (left, right) -> {
+            int compared = directed.compare(left, right);
+            return compared != 0 ? compared : Long.compare(ids[left], ids[right]);
+        });
+
+        long[] result = new long[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            result[i] = ids[slots[i]];
+        }
+        return result;
+    }
+
+    private SlotOrder slotOrder(String sort) {
+        if (sort == null) {
+            return null;
+        }
+        return switch (sort) {
+            case "name" -> (left, right) -> String.CASE_INSENSITIVE_ORDER.compare(names[left], names[right]);
+            case "price" -> (left, right) -> Long.compare(priceCents[left], priceCents[right]);
+            case "minPlayers" -> (left, right) -> Integer.compare(minPlayers[left], minPlayers[right]);
+            case "maxPlayers" -> (left, right) -> Integer.compare(maxPlayers[left], maxPlayers[right]);
+            default -> null;
+        };
+    }
+
+    private static void sortSlots(int[] slots, SlotOrder order) {
+        int[] source = slots;
+        int[] target = new int[slots.length];
+        for (int width = 1; width < slots.length; width *= 2) {
+            for (int from = 0; from < slots.length; from += 2 * width) {
+                int middle = Math.min(from + width, slots.length);
+                int to = Math.min(from + 2 * width, slots.length);
+                int left = from;
+                int right = middle;
+                for (int i = from; i < to; i++) {
+                    if (left < middle && (right >= to || order.compare(source[left], source[right]) <= 0)) {
+                        target[i] = source[left++];
+                    } else {
+                        target[i] = source[right++];
+                    }
+                }
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != slots) {
+            System.arraycopy(source, 0, slots, 0, slots.length);
+        }
+    }
+
+    private static void reverse(long[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            long value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private void apply(BoardgameChangedEvent event) {
+        if (event.type() == BoardgameChangedEvent.ChangeType.DELETED) {
+            remove(event.boardgameId());
+        } else {
+            Boardgame boardgame = event.boardgame();
+            put(boardgame.getId(), boardgame.getName(), boardgame.getPrice(), boardgame.getMinPlayers(),
+                    boardgame.getMaxPlayers(), boardgame.getGenre(), boardgame.isAvailable());
+        }
+    }
+
+    private void put(Long id, String name, BigDecimal price, int minPlayerCount, int maxPlayerCount, String genre,
+            boolean isAvailable) {
+        Integer existing = slotsById.get(id);
+        int slot;
+        if (existing != null) {
+            slot = existing;
+            slotsByGenre.get(genres[slot]).clear(slot);
+        } else {
+            slot = live.nextClearBit(0);
+            ensureCapacity(slot + 1);
+            slotsById.put(id, slot);
+            live.set(slot);
+        }
+
+        int genreId = genreIds.computeIfAbsent(genreKey(genre), key -> {
+            slotsByGenre.add(new BitSet());
+            genreLabels.add(genre);
+            return slotsByGenre.size() - 1;
+        });
+        slotsByGenre.get(genreId).set(slot);
+
+        ids[slot] = id;
+        names[slot] = name;
+        genres[slot] = genreId;
+        minPlayers[slot] = minPlayerCount;
+        maxPlayers[slot] = maxPlayerCount;
+        priceCents[slot] = cents(price, RoundingMode.HALF_UP);
+        available.set(slot, isAvailable);
+    }
+
+    private void remove(Long id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        live.clear(slot);
+        available.clear(slot);
+        slotsByGenre.get(genres[slot]).clear(slot);
+        names[slot] = null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, newCapacity);
+        names = Arrays.copyOf(names, newCapacity);
+        genres = Arrays.copyOf(genres, newCapacity);
+        minPlayers = Arrays.copyOf(minPlayers, newCapacity);
+        maxPlayers = Arrays.copyOf(maxPlayers, newCapacity);
+        priceCents = Arrays.copyOf(priceCents, newCapacity);
+    }
+
+    private static String genreKey(String genre) {
+        return genre == null ? "" : genre.toLowerCase(Locale.ROOT);
+    }
+
+    private static long cents(BigDecimal price, RoundingMode roundingMode) {
+        return price == null ? 0 : price.setScale(2, roundingMode).unscaledValue().longValue();
+    }
+
+    @FunctionalInterface
+    private interface SlotOrder {
+        int compare(int leftSlot, int rightSlot);
+    }
+}
@@ -0,0 +1,105 @@
+package com.meepleconnect.boardgamesapi.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.meepleconnect.boardgamesapi.events.UserChangedEvent;
+import com.meepleconnect.boardgamesapi.repositories.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Bounded, time-limited cache in front of UserDetailsServiceImpl, so repeated logins and DB-backed JWT principals
+ * do not join users and roles on every call. Unknown usernames are cached for a shorter time. User changes evict
+ * that user's entry and all negative entries after commit. Callers get a copy, so erasing credentials after
+ * authentication leaves the cached entry intact. Password rehashes on login are written through and evict the
+ * entry.
+ */
+@Service
+@Primary
+public class CachingUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    public static final String CACHE_NAME = "user-details";
+
+    private final UserDetailsServiceImpl delegate;
+    private final UserRepository userRepository;
+    private final Cache<String, CachedUser> users;
+
+    public CachingUserDetailsService(UserDetailsServiceImpl delegate, UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${security.user-details-cache.ttl:PT5M}") Duration ttl,
+            @Value("${security.user-details-cache.negative-ttl:PT30S}") Duration negativeTtl,
+            @Value("${security.user-details-cache.max-size:10000}") long maxSize) {
+        this.delegate = delegate;
+        this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new CachedUserExpiry(ttl, negativeTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, CACHE_NAME);
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        CachedUser cached = users.get(username, this::load);
+        if (cached.details() == null) {
+            throw new UsernameNotFoundException("User not found: " + username);
+        }
+        return User.withUserDetails(cached.details()).build();
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        users.invalidate(user.getUsername());
+        return User.withUserDetails(user).password(newPassword).build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        users.asMap().values().removeIf(cached -> cached.details() == null || event.userId().equals(cached.userId()));
+    }
+
+    private CachedUser load(String username) {
+        return userRepository.findByUserName(username)
+                .map(user -> new CachedUser(user.getId(), delegate.toUserDetails(user)))
+                .orElse(CachedUser.MISSING);
+    }
+
+    private record CachedUser(Long userId, UserDetails details) {
+        private static final CachedUser MISSING = new CachedUser(null, null);
+    }
+
+    private record CachedUserExpiry(Duration ttl, Duration negativeTtl) implements Expiry<String, CachedUser> {
+
+        @Override
+        public long expireAfterCreate(String username, CachedUser cached, long currentTime) {
+            return (cached.details() != null ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String username, CachedUser cached, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(username, cached, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String username, CachedUser cached, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
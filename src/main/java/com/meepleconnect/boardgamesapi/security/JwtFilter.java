@@ -1,10 +1,14 @@
 package com.meepleconnect.boardgamesapi.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -17,11 +21,18 @@ import java.io.IOException;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final TokenVersionCache tokenVersionCache;
+    private final RevokedTokenList revokedTokenList;
     private final UserDetailsService userDetailsService;
+    private final boolean loadPrincipal;
 
-    public JwtFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtFilter(JwtUtil jwtUtil, TokenVersionCache tokenVersionCache, RevokedTokenList revokedTokenList,
+            UserDetailsService userDetailsService, @Value("${jwt.load-principal:false}") boolean loadPrincipal) {
         this.jwtUtil = jwtUtil;
+        this.tokenVersionCache = tokenVersionCache;
+        this.revokedTokenList = revokedTokenList;
         this.userDetailsService = userDetailsService;
+        this.loadPrincipal = loadPrincipal;
     }
 
     @Override
@@ -30,24 +41,38 @@ public class JwtFilter extends OncePerRequestFilter {
         String authorizationHeader = request.getHeader("Authorization");
 
         String token = null;
-        String username = null;
+        Claims claims = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             token = authorizationHeader.substring(7);
-            username = jwtUtil.extractUsername(token);
+            try {
+                claims = jwtUtil.parseClaims(token);
+            } catch (JwtException | IllegalArgumentException e) {
+                // Expired or invalid tokens leave the request unauthenticated; secured endpoints reject it later
+                claims = null;
+            }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-            if (jwtUtil.validateToken(token, userDetails.getUsername())) {
-                JwtAuthenticationToken authentication = new JwtAuthenticationToken(token, userDetails,
-                        userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+        if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && jwtUtil.validateToken(claims)
+                && !revokedTokenList.isRevoked(claims.getId(), claims.getExpiration())
+                && tokenVersionCache.isCurrent(jwtUtil.getUserId(claims), jwtUtil.getTokenVersion(claims))) {
+            UserDetails userDetails = loadPrincipal
+                    ? userDetailsService.loadUserByUsername(claims.getSubject())
+                    : principalFromClaims(claims);
+            JwtAuthenticationToken authentication = new JwtAuthenticationToken(token, userDetails,
+                    userDetails.getAuthorities());
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails principalFromClaims(Claims claims) {
+        return User.withUsername(claims.getSubject())
+                .password("")
+                .authorities(jwtUtil.getAuthorities(claims))
+                .build();
+    }
 }
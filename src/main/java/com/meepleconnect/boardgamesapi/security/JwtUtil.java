@@ -1,67 +1,96 @@
 package com.meepleconnect.boardgamesapi.security;
 
+import com.meepleconnect.boardgamesapi.entities.User;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.List;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret-key}")
-    private String secretKey;
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLES_CLAIM = "roles";
+    public static final String VERSION_CLAIM = "ver";
+    private static final String ROLE_PREFIX = "ROLE_";
 
-    @Value("${jwt.audience}")
-    private String audience;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final String audience;
+    private final String issuer;
+    private final long expiration;
 
-    @Value("${jwt.issuer}")
-    private String issuer;
-
-    @Value("${jwt.expiration:3600000}")
-    private long expiration;
+    public JwtUtil(@Value("${jwt.secret-key}") String secretKey,
+            @Value("${jwt.audience}") String audience,
+            @Value("${jwt.issuer}") String issuer,
+            @Value("${jwt.expiration:3600000}") long expiration) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.audience = audience;
+        this.issuer = issuer;
+        this.expiration = expiration;
+    }
 
-    public String generateToken(String username) {
+    public String generateToken(User user) {
         return Jwts.builder()
-                .setSubject(username)
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getUserName())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLES_CLAIM, user.getRoles().stream()
+                        .map(role -> ROLE_PREFIX + role.getRoleName().replace(ROLE_PREFIX, ""))
+                        .toList())
+                .claim(VERSION_CLAIM, user.getTokenVersion())
                 .setIssuer(issuer)
                 .setAudience(audience)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    /**
+     * Verifies the signature and expiry of the token; throws a JwtException when either check fails.
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claimsResolver.apply(claims);
+    public boolean validateToken(Claims claims) {
+        return claims.getSubject() != null
+                && claims.getId() != null
+                && claims.get(USER_ID_CLAIM) != null
+                && claims.get(VERSION_CLAIM) != null
+                && claims.getExpiration() != null;
     }
 
-    public boolean validateToken(String token, String username) {
-        String extractedUsername = extractUsername(token);
-        return (username.equals(extractedUsername) && !isTokenExpired(token));
+    public Long getUserId(Claims claims) {
+        return claims.get(USER_ID_CLAIM, Long.class);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractClaim(token, Claims::getExpiration).before(new Date());
+    public int getTokenVersion(Claims claims) {
+        return claims.get(VERSION_CLAIM, Integer.class);
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public List<GrantedAuthority> getAuthorities(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (roles == null) {
+            return List.of();
+        }
+        return roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.toString()))
+                .toList();
     }
 }
@@ -0,0 +1,121 @@
+package com.meepleconnect.boardgamesapi.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ids of revoked access tokens, kept only until the tokens expire. Ids are grouped into buckets by expiry time, held
+ * in a ring that spans one access-token lifetime, so a token is only ever checked against the single bucket its
+ * expiry falls into. Each bucket puts a small Bloom filter in front of an exact set: the common case of a token that
+ * was never revoked reads a few bits and allocates nothing, and false positives are settled by the set. Buckets are
+ * reused in place once every token in them has expired.
+ */
+@Component
+public class RevokedTokenList {
+
+    private static final int HASHES = 4;
+
+    private final long bucketMillis;
+    private final int bloomBits;
+    private final Clock clock;
+    private final AtomicReferenceArray<Bucket> ring;
+
+    @Autowired
+    public RevokedTokenList(@Value("${jwt.expiration:3600000}") long tokenLifetimeMillis,
+            @Value("${jwt.revocation.bucket-duration:PT1M}") Duration bucketDuration,
+            @Value("${jwt.revocation.bloom-bits-per-bucket:8192}") int bloomBits) {
+        this(tokenLifetimeMillis, bucketDuration, bloomBits, Clock.systemUTC());
+    }
+
+    RevokedTokenList(long tokenLifetimeMillis, Duration bucketDuration, int bloomBits, Clock clock) {
+        this.bucketMillis = bucketDuration.toMillis();
+        this.bloomBits = Integer.highestOneBit(Math.max(bloomBits, Long.SIZE));
+        this.clock = clock;
+        this.ring = new AtomicReferenceArray<>((int) (tokenLifetimeMillis / bucketMillis) + 2);
+    }
+
+    public void revoke(String tokenId, Date expiresAt) {
+        long expiresAtMillis = expiresAt.getTime();
+        if (tokenId == null || expiresAtMillis <= clock.millis()) {
+            return;
+        }
+        long epoch = expiresAtMillis / bucketMillis;
+        int slot = (int) (epoch % ring.length());
+        Bucket bucket = ring.get(slot);
+        if (bucket == null || bucket.epoch != epoch) {
+            synchronized (this) {
+                bucket = ring.get(slot);
+                if (bucket == null || bucket.epoch < epoch) {
+                    bucket = new Bucket(epoch, bloomBits);
+                    ring.set(slot, bucket);
+                } else if (bucket.epoch > epoch) {
+                    return;
+                }
+            }
+        }
+        bucket.add(tokenId);
+    }
+
+    public boolean isRevoked(String tokenId, Date expiresAt) {
+        long epoch = expiresAt.getTime() / bucketMillis;
+        Bucket bucket = ring.get((int) (epoch % ring.length()));
+        return bucket != null && bucket.epoch == epoch && bucket.contains(tokenId);
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final int mask;
+        private final AtomicLongArray bloom;
+        private final Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        private Bucket(long epoch, int bits) {
+            this.epoch = epoch;
+            this.mask = bits - 1;
+            this.bloom = new AtomicLongArray(bits / Long.SIZE);
+        }
+
+        private void add(String tokenId) {
+            ids.add(tokenId);
+            int hash = tokenId.hashCode();
+            int step = mix(hash) | 1;
+            for (int i = 0; i < HASHES; i++) {
+                int bit = (hash + i * step) & mask;
+                long word;
+                long updated;
+                do {
+                    word = bloom.get(bit >>> 6);
+                    updated = word | (1L << bit);
+                } while (word != updated && !bloom.compareAndSet(bit >>> 6, word, updated));
+            }
+        }
+
+        private boolean contains(String tokenId) {
+            int hash = tokenId.hashCode();
+            int step = mix(hash) | 1;
+            for (int i = 0; i < HASHES; i++) {
+                int bit = (hash + i * step) & mask;
+                if ((bloom.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return ids.contains(tokenId);
+        }
+
+        private static int mix(int hash) {
+            hash ^= hash >>> 16;
+            hash *= 0x85ebca6b;
+            hash ^= hash >>> 13;
+            hash *= 0xc2b2ae35;
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.meepleconnect.boardgamesapi.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meepleconnect.boardgamesapi.events.UserChangedEvent;
+import com.meepleconnect.boardgamesapi.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Current token version per user, so JwtFilter can reject revoked tokens without loading the user. Local changes
+ * evict the entry after commit; the short TTL bounds how long a revocation made on another instance goes unseen.
+ */
+@Component
+public class TokenVersionCache {
+
+    private static final int NO_USER = -1;
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Integer> versions;
+
+    public TokenVersionCache(UserRepository userRepository,
+            @Value("${jwt.token-version-cache.ttl:PT30S}") Duration ttl,
+            @Value("${jwt.token-version-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return versions.get(userId, this::load) == tokenVersion;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        versions.invalidate(event.userId());
+    }
+
+    private Integer load(Long userId) {
+        return userRepository.findTokenVersionById(userId).orElse(NO_USER);
+    }
+}
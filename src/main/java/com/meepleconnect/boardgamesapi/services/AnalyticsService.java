@@ -0,0 +1,159 @@
+package com.meepleconnect.boardgamesapi.services;
+
+import com.meepleconnect.boardgamesapi.models.BoardgameNameView;
+import com.meepleconnect.boardgamesapi.models.BoardgameReservationTotals;
+import com.meepleconnect.boardgamesapi.models.GenreReservationTotals;
+import com.meepleconnect.boardgamesapi.models.MonthlyReservationTotals;
+import com.meepleconnect.boardgamesapi.models.TrendingWindow;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import com.meepleconnect.boardgamesapi.repositories.ReservationDailyStatsRepository;
+import com.meepleconnect.boardgamesapi.repositories.ReservationRepository;
+import com.meepleconnect.boardgamesapi.repositories.UserRepository;
+import com.meepleconnect.boardgamesapi.statistics.TrendingTracker;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+public class AnalyticsService {
+
+    private static final int ACTIVE_WINDOW_DAYS = 90;
+    private static final int MAX_TRENDING = 50;
+    private static final String[] SEASONS = { "Winter", "Spring", "Summer", "Autumn" };
+
+    private final ReservationDailyStatsRepository dailyStatsRepository;
+    private final ReservationRepository reservationRepository;
+    private final UserRepository userRepository;
+    private final BoardgameRepository boardgameRepository;
+    private final TrendingTracker trendingTracker;
+
+    public AnalyticsService(ReservationDailyStatsRepository dailyStatsRepository,
+            ReservationRepository reservationRepository, UserRepository userRepository,
+            BoardgameRepository boardgameRepository, TrendingTracker trendingTracker) {
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.reservationRepository = reservationRepository;
+        this.userRepository = userRepository;
+        this.boardgameRepository = boardgameRepository;
+        this.trendingTracker = trendingTracker;
+    }
+
+    public Map<String, Object> getBoardgamePerformance() {
+        long games = boardgameRepository.count();
+        long totalReservations = dailyStatsRepository.sumReservations();
+
+        Map<String, Object> metrics = new HashMap<>();
+        if (totalReservations > 0) {
+            metrics.put("mostReservedGame", firstName(dailyStatsRepository.findMostReserved(Limit.of(1))));
+            metrics.put("leastReservedGame", firstName(dailyStatsRepository.findLeastReserved(Limit.of(1))));
+        } else {
+            metrics.put("mostReservedGame", null);
+            metrics.put("leastReservedGame", null);
+        }
+        metrics.put("averageReservationsPerGame", games == 0 ? 0.0 : round((double) totalReservations / games));
+        metrics.put("topPerformingGenre", dailyStatsRepository.sumByGenre().stream()
+                .findFirst()
+                .map(GenreReservationTotals::getGenre)
+                .orElse(null));
+        metrics.put("utilizationRate", games == 0 || totalReservations == 0 ? 0.0
+                : round(dailyStatsRepository.countReservedBoardgames() * 100.0 / games));
+
+        return metrics;
+    }
+
+    public Map<String, Object> getCustomerInsights() {
+        LocalDate today = LocalDate.now();
+        LocalDate activeFrom = today.minusDays(ACTIVE_WINDOW_DAYS);
+        LocalDate previousFrom = activeFrom.minusDays(ACTIVE_WINDOW_DAYS);
+        LocalDate previousTo = activeFrom.minusDays(1);
+        YearMonth thisMonth = YearMonth.from(today);
+
+        long totalCustomers = userRepository.count();
+        long totalReservations = dailyStatsRepository.sumReservations();
+        long previousCustomers = reservationRepository.countCustomersBetween(previousFrom, previousTo);
+        long returningCustomers = previousCustomers == 0 ? 0
+                : reservationRepository.countReturningCustomersBetween(previousFrom, previousTo);
+
+        Map<String, Object> customerData = new HashMap<>();
+        customerData.put("totalCustomers", totalCustomers);
+        customerData.put("activeCustomers", reservationRepository.countCustomersFrom(activeFrom));
+        customerData.put("averageReservationsPerCustomer",
+                totalCustomers == 0 ? 0.0 : round((double) totalReservations / totalCustomers));
+        customerData.put("customerRetentionRate",
+                previousCustomers == 0 ? 0.0 : round(returningCustomers * 100.0 / previousCustomers));
+        customerData.put("newCustomersThisMonth", reservationRepository.countFirstTimeCustomersBetween(
+                thisMonth.atDay(1), thisMonth.atEndOfMonth()));
+
+        return customerData;
+    }
+
+    public Map<String, Object> getSeasonalTrends(int year) {
+        Year calendarYear = Year.of(year);
+        long[] seasonTotals = new long[SEASONS.length];
+        for (MonthlyReservationTotals month : dailyStatsRepository.sumByMonthBetween(calendarYear.atDay(1),
+                calendarYear.atMonth(12).atEndOfMonth())) {
+            seasonTotals[(month.getMonth() % 12) / 3] += month.getReservationCount();
+        }
+
+        Map<String, Long> seasonalData = new LinkedHashMap<>();
+        int peak = 0;
+        int low = 0;
+        for (int season = 0; season < SEASONS.length; season++) {
+            seasonalData.put(SEASONS[season], seasonTotals[season]);
+            if (seasonTotals[season] > seasonTotals[peak]) {
+                peak = season;
+            }
+            if (seasonTotals[season] < seasonTotals[low]) {
+                low = season;
+            }
+        }
+        boolean hasReservations = seasonTotals[peak] > 0;
+
+        Map<String, Object> trends = new HashMap<>();
+        trends.put("year", year);
+        trends.put("seasonalReservations", seasonalData);
+        trends.put("peakSeason", hasReservations ? SEASONS[peak] : null);
+        trends.put("lowSeason", hasReservations ? SEASONS[low] : null);
+
+        return trends;
+    }
+
+    public Map<String, Object> getTrendingBoardgames(TrendingWindow window, int limit) {
+        Map<Long, Long> scores = trendingTracker.top(window, Math.max(0, Math.min(limit, MAX_TRENDING)));
+        Map<Long, String> names = scores.isEmpty() ? Map.of()
+                : boardgameRepository.findProjectedByIdIn(scores.keySet()).stream()
+                        .collect(Collectors.toMap(BoardgameNameView::getId, BoardgameNameView::getName));
+
+        List<Map<String, Object>> games = scores.entrySet().stream()
+                .filter(entry -> names.containsKey(entry.getKey()))
+                .map(entry -> {
+                    Map<String, Object> game = new HashMap<>();
+                    game.put("id", entry.getKey());
+                    game.put("name", names.get(entry.getKey()));
+                    game.put("score", entry.getValue());
+                    return game;
+                })
+                .toList();
+
+        Map<String, Object> trending = new HashMap<>();
+        trending.put("window", window.name().toLowerCase(Locale.ROOT));
+        trending.put("trendingGames", games);
+        return trending;
+    }
+
+    private static String firstName(List<BoardgameReservationTotals> totals) {
+        return totals.isEmpty() ? null : totals.get(0).getName();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,74 @@
+package com.meepleconnect.boardgamesapi.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.meepleconnect.boardgamesapi.dtos.BoardgameDTOMapper;
+import com.meepleconnect.boardgamesapi.dtos.BoardgameResponseDTO;
+import com.meepleconnect.boardgamesapi.exceptions.BadRequestException;
+import com.meepleconnect.boardgamesapi.models.BoardgameListing;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class BoardgameExportService {
+
+    public static final String FORMAT_JSON = "json";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private final BoardgameRepository boardgameRepository;
+    private final BoardgameDTOMapper boardgameDTOMapper;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter boardgameWriter;
+
+    public BoardgameExportService(BoardgameRepository boardgameRepository, BoardgameDTOMapper boardgameDTOMapper,
+            ObjectMapper objectMapper) {
+        this.boardgameRepository = boardgameRepository;
+        this.boardgameDTOMapper = boardgameDTOMapper;
+        this.objectMapper = objectMapper;
+        this.boardgameWriter = objectMapper.writerFor(BoardgameResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public static void validateFormat(String format) {
+        if (!FORMAT_JSON.equals(format) && !FORMAT_NDJSON.equals(format)) {
+            throw new BadRequestException("Format must be 'json' or 'ndjson'.");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCatalog(String format, OutputStream out) throws IOException {
+        validateFormat(format);
+        boolean ndjson = FORMAT_NDJSON.equals(format);
+
+        try (Stream<BoardgameListing> listings = boardgameRepository.streamListingsBy();
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            if (ndjson) {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+            } else {
+                generator.writeStartArray();
+            }
+
+            Iterator<BoardgameListing> iterator = listings.iterator();
+            boolean empty = !iterator.hasNext();
+            while (iterator.hasNext()) {
+                boardgameWriter.writeValue(generator, boardgameDTOMapper.toResponseDTO(iterator.next()));
+            }
+
+            if (!ndjson) {
+                generator.writeEndArray();
+            } else if (!empty) {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+}
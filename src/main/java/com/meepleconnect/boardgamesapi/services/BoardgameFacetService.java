@@ -0,0 +1,93 @@
+package com.meepleconnect.boardgamesapi.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
+import com.meepleconnect.boardgamesapi.helpers.BoardgameFacetCounter;
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameFacetRow;
+import com.meepleconnect.boardgamesapi.models.BoardgameFacets;
+import com.meepleconnect.boardgamesapi.models.BoardgameSearchCriteria;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameSpecifications;
+import com.meepleconnect.boardgamesapi.search.BoardgameNameMatcher;
+import com.meepleconnect.boardgamesapi.search.CatalogSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+public class BoardgameFacetService {
+
+    private final BoardgameRepository boardgameRepository;
+    private final BoardgameNameMatcher boardgameNameMatcher;
+    private final CatalogSnapshot catalogSnapshot;
+    private final Cache<BoardgameSearchCriteria, BoardgameFacets> facetCache;
+
+    public BoardgameFacetService(BoardgameRepository boardgameRepository, BoardgameNameMatcher boardgameNameMatcher,
+            CatalogSnapshot catalogSnapshot,
+            @Value("${boardgames.facets.cache-ttl:30s}") Duration cacheTtl,
+            @Value("${boardgames.facets.cache-size:500}") long cacheSize) {
+        this.boardgameRepository = boardgameRepository;
+        this.boardgameNameMatcher = boardgameNameMatcher;
+        this.catalogSnapshot = catalogSnapshot;
+        this.facetCache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    public BoardgameFacets getFacets(BoardgameSearchCriteria criteria) {
+        return facetCache.get(signature(criteria), this::computeFacets);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardgameChanged(BoardgameChangedEvent event) {
+        facetCache.invalidateAll();
+    }
+
+    private BoardgameFacets computeFacets(BoardgameSearchCriteria criteria) {
+        List<Long> nameMatches = null;
+        if (criteria.hasName()) {
+            nameMatches = boardgameNameMatcher.findMatchingIds(criteria);
+            if (nameMatches.isEmpty()) {
+                return new BoardgameFacetCounter().toFacets();
+            }
+        }
+
+        if (catalogSnapshot.isReady()) {
+            return catalogSnapshot.facets(criteria, nameMatches);
+        }
+
+        Specification<Boardgame> specification = nameMatches != null
+                ? BoardgameSpecifications.idIn(nameMatches)
+                : BoardgameSpecifications.withSearchCriteria(criteria);
+        BoardgameFacetCounter counter = new BoardgameFacetCounter();
+        for (BoardgameFacetRow row : boardgameRepository.findFacetRows(specification)) {
+            counter.add(row.genre(), row.available(), row.minPlayers(), row.maxPlayers(),
+                    BoardgameFacetCounter.priceRange(row.price()),
+                    row.count());
+        }
+        return counter.toFacets();
+    }
+
+    private static BoardgameSearchCriteria signature(BoardgameSearchCriteria criteria) {
+        return new BoardgameSearchCriteria(
+                criteria.hasName() ? criteria.name().trim().toLowerCase(Locale.ROOT) : null,
+                criteria.genre() != null ? criteria.genre().toLowerCase(Locale.ROOT) : null,
+                criteria.available(),
+                criteria.minPlayers(),
+                criteria.maxPlayers(),
+                criteria.minPrice() != null ? criteria.minPrice().stripTrailingZeros() : null,
+                criteria.maxPrice() != null ? criteria.maxPrice().stripTrailingZeros() : null,
+                null,
+                false,
+                null,
+                null);
+    }
+}
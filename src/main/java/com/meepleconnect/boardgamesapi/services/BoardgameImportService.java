@@ -0,0 +1,220 @@
+package com.meepleconnect.boardgamesapi.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.meepleconnect.boardgamesapi.dtos.BoardgameDTOMapper;
+import com.meepleconnect.boardgamesapi.dtos.BoardgameRequestDTO;
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
+import com.meepleconnect.boardgamesapi.exceptions.BadRequestException;
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameImportError;
+import com.meepleconnect.boardgamesapi.models.BoardgameImportResult;
+import com.meepleconnect.boardgamesapi.models.Publisher;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import com.meepleconnect.boardgamesapi.repositories.PublisherRepository;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class BoardgameImportService {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final BoardgameRepository boardgameRepository;
+    private final PublisherRepository publisherRepository;
+    private final BoardgameDTOMapper boardgameDTOMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader jsonReader;
+    private final ObjectReader csvReader;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public BoardgameImportService(BoardgameRepository boardgameRepository, PublisherRepository publisherRepository,
+            BoardgameDTOMapper boardgameDTOMapper, Validator validator, EntityManager entityManager,
+            ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${boardgames.import.chunk-size:1000}") int chunkSize,
+            @Value("${boardgames.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.boardgameRepository = boardgameRepository;
+        this.publisherRepository = publisherRepository;
+        this.boardgameDTOMapper = boardgameDTOMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonReader = objectMapper.readerFor(BoardgameRequestDTO.class);
+        CsvMapper csvMapper = CsvMapper.builder()
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.csvReader = csvMapper.readerFor(BoardgameRequestDTO.class)
+                .with(CsvSchema.emptySchema().withHeader());
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public BoardgameImportResult importBoardgames(InputStream content, MediaType contentType) throws IOException {
+        ObjectReader reader = contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))
+                ? csvReader
+                : jsonReader;
+
+        ImportReport report = new ImportReport(maxReportedErrors);
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        try (MappingIterator<BoardgameRequestDTO> rows = reader.readValues(content)) {
+            long rowNumber = 0;
+            while (hasNextRow(rows, rowNumber + 1)) {
+                rowNumber++;
+                BoardgameRequestDTO request = nextRow(rows, rowNumber, report);
+                if (request == null) {
+                    continue;
+                }
+                chunk.add(new ImportRow(rowNumber, request));
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, report);
+        }
+        return report.toResult();
+    }
+
+    private static boolean hasNextRow(MappingIterator<BoardgameRequestDTO> rows, long rowNumber) throws IOException {
+        try {
+            return rows.hasNextValue();
+        } catch (JsonProcessingException e) {
+            throw malformed(rowNumber, e);
+        }
+    }
+
+    private static BoardgameRequestDTO nextRow(MappingIterator<BoardgameRequestDTO> rows, long rowNumber,
+            ImportReport report) throws IOException {
+        try {
+            return rows.nextValue();
+        } catch (JsonMappingException e) {
+            report.reject(rowNumber, null, List.of("Malformed row: " + e.getOriginalMessage()));
+            return null;
+        } catch (JsonProcessingException e) {
+            throw malformed(rowNumber, e);
+        }
+    }
+
+    private static BadRequestException malformed(long rowNumber, JsonProcessingException e) {
+        return new BadRequestException("Import content is malformed at row " + rowNumber + ": "
+                + e.getOriginalMessage());
+    }
+
+    private void importChunk(List<ImportRow> chunk, ImportReport report) {
+        List<ImportRow> valid = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            List<String> violations = validator.validate(row.request()).stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .toList();
+            if (violations.isEmpty()) {
+                valid.add(row);
+            } else {
+                report.reject(row.number(), row.request().getName(), violations);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+
+            Set<String> existingNames = new HashSet<>(boardgameRepository.findExistingLowerNames(valid.stream()
+                    .map(row -> normalizedName(row.request()))
+                    .collect(Collectors.toSet())));
+            Map<Long, Publisher> publishers = publisherRepository.findAllById(valid.stream()
+                            .map(row -> row.request().getPublisherId())
+                            .collect(Collectors.toSet())).stream()
+                    .collect(Collectors.toMap(Publisher::getId, Function.identity()));
+
+            List<Boardgame> boardgames = new ArrayList<>(valid.size());
+            for (ImportRow row : valid) {
+                BoardgameRequestDTO request = row.request();
+                Publisher publisher = publishers.get(request.getPublisherId());
+                if (!existingNames.add(normalizedName(request))) {
+                    report.reject(row.number(), request.getName(),
+                            List.of("Boardgame with name '" + request.getName() + "' already exists."));
+                } else if (publisher == null) {
+                    report.reject(row.number(), request.getName(),
+                            List.of("Publisher with ID " + request.getPublisherId() + " not found."));
+                } else {
+                    boardgames.add(boardgameDTOMapper.toEntity(request, publisher));
+                }
+            }
+
+            boardgameRepository.saveAll(boardgames);
+            entityManager.flush();
+            entityManager.clear();
+            boardgames.forEach(boardgame -> eventPublisher.publishEvent(BoardgameChangedEvent.created(boardgame)));
+            report.imported += boardgames.size();
+        });
+    }
+
+    private static String normalizedName(BoardgameRequestDTO request) {
+        return request.getName().toLowerCase(Locale.ROOT);
+    }
+
+    private record ImportRow(long number, BoardgameRequestDTO request) {
+    }
+
+    private static final class ImportReport {
+        private final List<BoardgameImportError> errors = new ArrayList<>();
+        private final int maxErrors;
+        private long imported;
+        private long rejected;
+
+        private ImportReport(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void reject(long row, String name, List<String> messages) {
+            rejected++;
+            if (errors.size() < maxErrors) {
+                errors.add(new BoardgameImportError(row, name, messages));
+            }
+        }
+
+        private BoardgameImportResult toResult() {
+            return new BoardgameImportResult(imported + rejected, imported, rejected, List.copyOf(errors),
+                    rejected > errors.size());
+        }
+    }
+}
@@ -1,39 +1,150 @@
 package com.meepleconnect.boardgamesapi.services;
 
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
 import com.meepleconnect.boardgamesapi.exceptions.BadRequestException;
 import com.meepleconnect.boardgamesapi.exceptions.ConflictException;
 import com.meepleconnect.boardgamesapi.exceptions.GameNotFoundException;
 import com.meepleconnect.boardgamesapi.exceptions.TeapotException;
+import com.meepleconnect.boardgamesapi.helpers.BoardgameCursor;
+import com.meepleconnect.boardgamesapi.helpers.EntityCacheEvictor;
 import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameListing;
+import com.meepleconnect.boardgamesapi.models.BoardgamePage;
+import com.meepleconnect.boardgamesapi.models.BoardgameSearchCriteria;
 import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameSpecifications;
+import com.meepleconnect.boardgamesapi.search.BoardgameNameMatcher;
+import com.meepleconnect.boardgamesapi.search.CatalogSnapshot;
+import com.meepleconnect.boardgamesapi.statistics.PopularityRanking;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class BoardgameService {
 
     private final BoardgameRepository boardgameRepository;
+    private final BoardgameNameMatcher boardgameNameMatcher;
+    private final CatalogSnapshot catalogSnapshot;
+    private final PopularityRanking popularityRanking;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BoardgameService(BoardgameRepository boardgameRepository) {
+    @Value("${boardgames.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${boardgames.page.max-size:100}")
+    private int maxPageSize;
+
+    public BoardgameService(BoardgameRepository boardgameRepository, BoardgameNameMatcher boardgameNameMatcher,
+            CatalogSnapshot catalogSnapshot, PopularityRanking popularityRanking,
+            EntityCacheEvictor entityCacheEvictor, ApplicationEventPublisher eventPublisher) {
         this.boardgameRepository = boardgameRepository;
+        this.boardgameNameMatcher = boardgameNameMatcher;
+        this.catalogSnapshot = catalogSnapshot;
+        this.popularityRanking = popularityRanking;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional(readOnly = true)
     public List<Boardgame> getAllBoardgames() {
         return boardgameRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public List<Boardgame> getBoardgamesByGenre(String genre) {
         return boardgameRepository.findByGenreIgnoreCase(genre);
     }
 
+    @Transactional(readOnly = true)
     public Boardgame getBoardgameById(Long id) {
         return boardgameRepository.findById(id)
                 .orElseThrow(() -> new GameNotFoundException("Boardgame with ID " + id + " not found."));
     }
 
+    @Transactional(readOnly = true)
+    public List<Boardgame> searchBoardgames(BoardgameSearchCriteria criteria) {
+        List<Long> nameMatches = null;
+        if (criteria.hasName()) {
+            nameMatches = boardgameNameMatcher.findMatchingIds(criteria);
+            if (nameMatches.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        if (catalogSnapshot.isReady() && (criteria.isPaged() || nameMatches != null)) {
+            long[] ids = catalogSnapshot.select(criteria, nameMatches);
+            if (criteria.isPaged()) {
+                int pageSize = searchPageSize(criteria);
+                int from = Math.min(ids.length, pageOffset(criteria, pageSize));
+                ids = Arrays.copyOfRange(ids, from, Math.min(ids.length, from + pageSize));
+            }
+            return findAllInOrder(Arrays.stream(ids).boxed().toList());
+        }
+
+        if (criteria.sortByRelevance()) {
+            List<Long> ids = nameMatches;
+            if (criteria.isPaged()) {
+                int pageSize = searchPageSize(criteria);
+                int from = Math.min(ids.size(), pageOffset(criteria, pageSize));
+                ids = ids.subList(from, Math.min(ids.size(), from + pageSize));
+            }
+            return findAllInOrder(ids);
+        }
+
+        Specification<Boardgame> specification = nameMatches != null
+                ? BoardgameSpecifications.idIn(nameMatches)
+                : BoardgameSpecifications.withSearchCriteria(criteria);
+        String sortField = criteria.sort() == null || BoardgameSearchCriteria.SORT_BY_RELEVANCE.equals(criteria.sort())
+                ? "id"
+                : criteria.sort();
+        // Names compare case-insensitively, as in CatalogSnapshot, so both paths return the same order
+        Sort order = Sort.by(new Sort.Order(criteria.descending() ? Sort.Direction.DESC : Sort.Direction.ASC,
+                sortField).ignoreCase())
+                .and(Sort.by("id"));
+        if (!criteria.isPaged()) {
+            return boardgameRepository.findAll(specification, order);
+        }
+        int pageSize = searchPageSize(criteria);
+        int page = criteria.page() != null ? criteria.page() : 0;
+        return boardgameRepository.findAll(specification, PageRequest.of(page, pageSize, order)).getContent();
+    }
+
+    private List<Boardgame> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Boardgame> byId = boardgameRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Boardgame::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private int searchPageSize(BoardgameSearchCriteria criteria) {
+        return Math.min(criteria.size() != null ? criteria.size() : defaultPageSize, maxPageSize);
+    }
+
+    private static int pageOffset(BoardgameSearchCriteria criteria, int pageSize) {
+        long offset = (long) (criteria.page() != null ? criteria.page() : 0) * pageSize;
+        return (int) Math.min(offset, Integer.MAX_VALUE);
+    }
+
+    @Transactional
     public Boardgame addBoardgame(Boardgame boardgame) {
         if (boardgame.getName() == null || boardgame.getName().trim().isEmpty()) {
             throw new BadRequestException("Name of boardgame can't be empty.");
@@ -43,15 +154,19 @@ public class BoardgameService {
         if (existingBoardgame.isPresent()) {
             throw new ConflictException("Boardagme with name '" + boardgame.getName() + "' already exists.");
         }
-        return boardgameRepository.save(boardgame);
+        Boardgame savedBoardgame = boardgameRepository.save(boardgame);
+        eventPublisher.publishEvent(BoardgameChangedEvent.created(savedBoardgame));
+        return savedBoardgame;
     }
 
+    @Transactional
     public Boardgame updateBoardgame(Long id, Boardgame updatedBoardgame) {
         if (updatedBoardgame.getName() == null || updatedBoardgame.getName().trim().isEmpty()) {
             throw new BadRequestException("Name of boardgame can't be empty.");
         }
 
         return boardgameRepository.findById(id).map(existingBoardgame -> {
+            boolean previouslyAvailable = existingBoardgame.isAvailable();
             existingBoardgame.setName(updatedBoardgame.getName());
             existingBoardgame.setPrice(updatedBoardgame.getPrice());
             existingBoardgame.setAvailable(updatedBoardgame.isAvailable());
@@ -60,15 +175,20 @@ public class BoardgameService {
             existingBoardgame.setGenre(updatedBoardgame.getGenre());
             existingBoardgame.setPublisher(updatedBoardgame.getPublisher());
 
-            return boardgameRepository.save(existingBoardgame);
+            Boardgame savedBoardgame = boardgameRepository.save(existingBoardgame);
+            entityCacheEvictor.evict(Boardgame.class, id);
+            eventPublisher.publishEvent(BoardgameChangedEvent.updated(savedBoardgame, previouslyAvailable));
+            return savedBoardgame;
         }).orElseThrow(() -> new GameNotFoundException("Boardgame with ID " + id + " not found."));
     }
 
+    @Transactional
     public void deleteBoardgame(Long id) {
-        if (!boardgameRepository.existsById(id)) {
-            throw new GameNotFoundException("Boardgame with ID " + id + " not found.");
-        }
-        boardgameRepository.deleteById(id);
+        Boardgame boardgame = boardgameRepository.findById(id)
+                .orElseThrow(() -> new GameNotFoundException("Boardgame with ID " + id + " not found."));
+        boardgameRepository.delete(boardgame);
+        entityCacheEvictor.evict(Boardgame.class, id);
+        eventPublisher.publishEvent(BoardgameChangedEvent.deleted(id, boardgame.isAvailable()));
     }
 
     public Boardgame getSpecialBoardgame(int id) {
@@ -80,35 +200,40 @@ public class BoardgameService {
                 .orElseThrow(() -> new GameNotFoundException("Boardgame with ID " + id + " not found."));
     }
 
-    public List<Boardgame> getFilteredBoardgames(String genre, Boolean available, Integer minPlayers,
+    @Transactional(readOnly = true)
+    public List<BoardgameListing> getFilteredBoardgames(String genre, Boolean available, Integer minPlayers,
             Integer maxPlayers) {
-        List<Boardgame> boardgames = boardgameRepository.findAll();
+        return boardgameRepository.findListings(
+                BoardgameSpecifications.withFilters(genre, available, minPlayers, maxPlayers));
+    }
 
-        if (genre != null) {
-            boardgames = boardgames.stream()
-                    .filter(game -> game.getGenre().equalsIgnoreCase(genre))
-                    .toList();
+    @Transactional(readOnly = true)
+    public BoardgamePage getBoardgamePage(String genre, Boolean available, Integer minPlayers, Integer maxPlayers,
+            String sort, String after, Integer size) {
+        if (!BoardgameCursor.SORT_BY_ID.equals(sort) && !BoardgameCursor.SORT_BY_NAME.equals(sort)) {
+            throw new BadRequestException("Sort must be 'id' or 'name'.");
         }
-
-        if (available != null) {
-            boardgames = boardgames.stream()
-                    .filter(game -> game.isAvailable() == available)
-                    .toList();
+        if (size != null && size < 1) {
+            throw new BadRequestException("Page size must be at least 1.");
         }
 
-        if (minPlayers != null) {
-            boardgames = boardgames.stream()
-                    .filter(game -> game.getMinPlayers() >= minPlayers)
-                    .toList();
-        }
+        int pageSize = Math.min(size != null ? size : defaultPageSize, maxPageSize);
+        BoardgameCursor cursor = after != null ? BoardgameCursor.decode(after, sort) : null;
+        Sort order = BoardgameCursor.SORT_BY_NAME.equals(sort)
+                ? Sort.by("name").and(Sort.by("id"))
+                : Sort.by("id");
+
+        List<Boardgame> boardgames = boardgameRepository.findBy(
+                BoardgameSpecifications.withFilters(genre, available, minPlayers, maxPlayers)
+                        .and(BoardgameSpecifications.after(cursor)),
+                query -> query.sortBy(order).limit(pageSize + 1).all());
 
-        if (maxPlayers != null) {
-            boardgames = boardgames.stream()
-                    .filter(game -> game.getMaxPlayers() <= maxPlayers)
-                    .toList();
+        if (boardgames.size() <= pageSize) {
+            return new BoardgamePage(boardgames, null);
         }
 
-        return boardgames;
+        List<Boardgame> page = boardgames.subList(0, pageSize);
+        return new BoardgamePage(page, BoardgameCursor.after(sort, page.get(pageSize - 1)).encode());
     }
 
     public long getTotalBoardgamesCount() {
@@ -116,23 +241,19 @@ public class BoardgameService {
     }
 
     public long getAvailableBoardgamesCount() {
-        return boardgameRepository.findAll().stream()
-                .filter(Boardgame::isAvailable)
-                .count();
+        return boardgameRepository.countByAvailable(true);
     }
 
     public Map<String, Object> getPopularBoardgames() {
         Map<String, Object> popularGames = new HashMap<>();
-        List<Boardgame> allGames = boardgameRepository.findAll();
 
-        List<Map<String, Object>> games = allGames.stream()
-                .limit(5)
+        List<Map<String, Object>> games = popularityRanking.top().stream()
                 .map(game -> {
                     Map<String, Object> gameInfo = new HashMap<>();
-                    gameInfo.put("id", game.getId());
-                    gameInfo.put("name", game.getName());
-                    gameInfo.put("genre", game.getGenre());
-                    gameInfo.put("popularityScore", game.isAvailable() ? 100 : 50);
+                    gameInfo.put("id", game.id());
+                    gameInfo.put("name", game.name());
+                    gameInfo.put("genre", game.genre());
+                    gameInfo.put("popularityScore", game.popularityScore());
                     return gameInfo;
                 })
                 .toList();
@@ -1,9 +1,12 @@
 package com.meepleconnect.boardgamesapi.services;
 
 import com.meepleconnect.boardgamesapi.exceptions.PublisherNotFoundException;
+import com.meepleconnect.boardgamesapi.helpers.EntityCacheEvictor;
 import com.meepleconnect.boardgamesapi.models.Publisher;
+import com.meepleconnect.boardgamesapi.models.PublisherListing;
 import com.meepleconnect.boardgamesapi.repositories.PublisherRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -11,20 +14,25 @@ import java.util.List;
 public class PublisherService {
 
     private final PublisherRepository publisherRepository;
+    private final EntityCacheEvictor entityCacheEvictor;
 
-    public PublisherService(PublisherRepository publisherRepository) {
+    public PublisherService(PublisherRepository publisherRepository, EntityCacheEvictor entityCacheEvictor) {
         this.publisherRepository = publisherRepository;
+        this.entityCacheEvictor = entityCacheEvictor;
     }
 
-    public List<Publisher> getAllPublishers() {
-        return publisherRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<PublisherListing> getAllPublishers() {
+        return publisherRepository.findListingsBy();
     }
 
+    @Transactional(readOnly = true)
     public Publisher getPublisherById(Long id) {
         return publisherRepository.findById(id)
                 .orElseThrow(() -> new PublisherNotFoundException("Publisher with ID " + id + " not found."));
     }
 
+    @Transactional(readOnly = true)
     public List<Publisher> getPublishersByCountry(String country) {
         return publisherRepository.findByCountryOfOrigin(country);
     }
@@ -40,7 +48,9 @@ public class PublisherService {
             existingPublisher.setFounded(updatedPublisher.getFounded());
             existingPublisher.setIndie(updatedPublisher.isIndie());
 
-            return publisherRepository.save(existingPublisher);
+            Publisher savedPublisher = publisherRepository.save(existingPublisher);
+            entityCacheEvictor.evict(Publisher.class, id);
+            return savedPublisher;
         }).orElseThrow(() -> new PublisherNotFoundException("Publisher with ID " + id + " not found."));
     }
 
@@ -49,5 +59,6 @@ public class PublisherService {
             throw new PublisherNotFoundException("Publisher with ID " + id + " not found.");
         }
         publisherRepository.deleteById(id);
+        entityCacheEvictor.evict(Publisher.class, id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.meepleconnect.boardgamesapi.services;
+
+import com.meepleconnect.boardgamesapi.entities.RefreshToken;
+import com.meepleconnect.boardgamesapi.entities.User;
+import com.meepleconnect.boardgamesapi.models.AuthTokens;
+import com.meepleconnect.boardgamesapi.repositories.RefreshTokenRepository;
+import com.meepleconnect.boardgamesapi.security.JwtUtil;
+import com.meepleconnect.boardgamesapi.security.RevokedTokenList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtUtil jwtUtil;
+    private final RevokedTokenList revokedTokenList;
+    private final Duration refreshTokenLifetime;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, JwtUtil jwtUtil,
+            RevokedTokenList revokedTokenList,
+            @Value("${jwt.refresh-token.expiration:P14D}") Duration refreshTokenLifetime) {
+        this(refreshTokenRepository, jwtUtil, revokedTokenList, refreshTokenLifetime, Clock.systemUTC());
+    }
+
+    RefreshTokenService(RefreshTokenRepository refreshTokenRepository, JwtUtil jwtUtil,
+            RevokedTokenList revokedTokenList, Duration refreshTokenLifetime, Clock clock) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtUtil = jwtUtil;
+        this.revokedTokenList = revokedTokenList;
+        this.refreshTokenLifetime = refreshTokenLifetime;
+        this.clock = clock;
+    }
+
+    @Transactional
+    public AuthTokens login(User user) {
+        return issue(user, UUID.randomUUID().toString(), clock.instant());
+    }
+
+    @Transactional(noRollbackFor = AuthenticationException.class)
+    public AuthTokens refresh(String rawRefreshToken) {
+        Instant now = clock.instant();
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(rawRefreshToken))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        User user = current.getUser();
+
+        // A rotated token coming back means it was copied, and a version bump means the user was changed or
+        // revoked since login: either way the whole session ends.
+        if (current.getRevokedAt() != null || current.getTokenVersion() != user.getTokenVersion()) {
+            throw revokeFamily(current, now);
+        }
+        if (!current.getExpiresAt().isAfter(now)) {
+            throw new BadCredentialsException("Refresh token has expired");
+        }
+        if (refreshTokenRepository.revoke(current.getId(), now) == 0) {
+            throw revokeFamily(current, now);
+        }
+        return issue(user, current.getFamilyId(), now);
+    }
+
+    @Transactional
+    public void logout(String rawRefreshToken, String accessToken) {
+        Instant now = clock.instant();
+        if (rawRefreshToken != null) {
+            refreshTokenRepository.findByTokenHash(hash(rawRefreshToken))
+                    .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), now));
+        }
+        if (accessToken != null) {
+            try {
+                Claims claims = jwtUtil.parseClaims(accessToken);
+                revokedTokenList.revoke(claims.getId(), claims.getExpiration());
+            } catch (JwtException | IllegalArgumentException e) {
+                // an invalid or expired access token cannot be used anyway
+            }
+        }
+    }
+
+    @Scheduled(cron = "${jwt.refresh-token.cleanup-cron:0 15 4 * * *}")
+    @Transactional
+    public void deleteExpired() {
+        refreshTokenRepository.deleteExpiredBefore(clock.instant());
+    }
+
+    private BadCredentialsException revokeFamily(RefreshToken token, Instant now) {
+        refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+        return new BadCredentialsException("Refresh token has been revoked");
+    }
+
+    private AuthTokens issue(User user, String familyId, Instant now) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String rawRefreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUser(user);
+        refreshToken.setTokenHash(hash(rawRefreshToken));
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setTokenVersion(user.getTokenVersion());
+        refreshToken.setCreatedAt(now);
+        refreshToken.setExpiresAt(now.plus(refreshTokenLifetime));
+        refreshTokenRepository.save(refreshToken);
+
+        return new AuthTokens(jwtUtil.generateToken(user), rawRefreshToken);
+    }
+
+    private static String hash(String rawRefreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawRefreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
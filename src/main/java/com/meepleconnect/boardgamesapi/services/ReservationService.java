@@ -1,21 +1,30 @@
 package com.meepleconnect.boardgamesapi.services;
 
+import com.meepleconnect.boardgamesapi.events.ReservationChangedEvent;
 import com.meepleconnect.boardgamesapi.exceptions.GameNotFoundException;
 import com.meepleconnect.boardgamesapi.exceptions.ReservationNotFoundException;
+import com.meepleconnect.boardgamesapi.models.MonthlyReservationTotals;
 import com.meepleconnect.boardgamesapi.models.Reservation;
+import com.meepleconnect.boardgamesapi.models.ReservationTotals;
 import com.meepleconnect.boardgamesapi.models.Boardgame;
 import com.meepleconnect.boardgamesapi.entities.User;
 import com.meepleconnect.boardgamesapi.repositories.ReservationRepository;
 import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
 import com.meepleconnect.boardgamesapi.repositories.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ReservationService {
@@ -23,12 +32,14 @@ public class ReservationService {
     private final ReservationRepository reservationRepository;
     private final BoardgameRepository boardgameRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ReservationService(ReservationRepository reservationRepository, BoardgameRepository boardgameRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
         this.reservationRepository = reservationRepository;
         this.boardgameRepository = boardgameRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<Reservation> getAllReservations() {
@@ -43,6 +54,7 @@ public class ReservationService {
         return reservationRepository.findByBoardgameId(boardgameId);
     }
 
+    @Transactional
     public Reservation createReservation(Long customerId, Long boardgameId, LocalDate reservationDate,
             int participantCount, String notes) {
         Optional<User> customer = userRepository.findById(customerId);
@@ -58,14 +70,18 @@ public class ReservationService {
 
         Reservation reservation = new Reservation(customer.get(), boardgame.get(), reservationDate, participantCount,
                 notes);
-        return reservationRepository.save(reservation);
+        Reservation savedReservation = reservationRepository.save(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.created(savedReservation));
+        return savedReservation;
     }
 
+    @Transactional
     public void cancelReservation(Long reservationId) {
-        if (!reservationRepository.existsById(reservationId)) {
-            throw new GameNotFoundException("Reservation with ID " + reservationId + " wasn't found.");
-        }
-        reservationRepository.deleteById(reservationId);
+        Reservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new GameNotFoundException(
+                        "Reservation with ID " + reservationId + " wasn't found."));
+        reservationRepository.delete(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.cancelled(reservation));
     }
 
     public long getTotalReservationsCount() {
@@ -73,29 +89,55 @@ public class ReservationService {
     }
 
     public long getActiveReservationsCount() {
-        return reservationRepository.findAll().stream()
-                .filter(reservation -> reservation.getReservationDate().isAfter(LocalDate.now()))
-                .count();
+        return reservationRepository.countByReservationDateAfter(LocalDate.now());
     }
 
     public Map<String, Object> getMonthlyReservations(int year, int month) {
         Map<String, Object> monthlyStats = new HashMap<>();
         YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
 
-        List<Reservation> monthlyReservations = reservationRepository.findAll().stream()
-                .filter(reservation -> !reservation.getReservationDate().isBefore(startDate) &&
-                        !reservation.getReservationDate().isAfter(endDate))
-                .toList();
+        ReservationTotals totals = reservationRepository.sumByReservationDateBetween(yearMonth.atDay(1),
+                yearMonth.atEndOfMonth());
 
         monthlyStats.put("year", year);
         monthlyStats.put("month", month);
-        monthlyStats.put("totalReservations", monthlyReservations.size());
-        monthlyStats.put("totalParticipants", monthlyReservations.stream()
-                .mapToInt(Reservation::getParticipantCount)
-                .sum());
+        monthlyStats.put("totalReservations", totals.getReservationCount());
+        monthlyStats.put("totalParticipants", totals.getParticipantCount());
 
         return monthlyStats;
     }
+
+    public Map<String, Object> getYearlyReservations(int year) {
+        Map<String, Object> yearlyStats = new HashMap<>();
+        Year calendarYear = Year.of(year);
+
+        Map<Integer, MonthlyReservationTotals> totalsByMonth = reservationRepository
+                .sumByMonthBetween(calendarYear.atDay(1), calendarYear.atMonth(12).atEndOfMonth()).stream()
+                .collect(Collectors.toMap(MonthlyReservationTotals::getMonth, Function.identity()));
+
+        List<Map<String, Object>> months = new ArrayList<>();
+        long totalReservations = 0;
+        long totalParticipants = 0;
+        for (int month = 1; month <= 12; month++) {
+            MonthlyReservationTotals totals = totalsByMonth.get(month);
+            long reservations = totals != null ? totals.getReservationCount() : 0;
+            long participants = totals != null ? totals.getParticipantCount() : 0;
+
+            Map<String, Object> bucket = new HashMap<>();
+            bucket.put("month", month);
+            bucket.put("totalReservations", reservations);
+            bucket.put("totalParticipants", participants);
+            months.add(bucket);
+
+            totalReservations += reservations;
+            totalParticipants += participants;
+        }
+
+        yearlyStats.put("year", year);
+        yearlyStats.put("months", months);
+        yearlyStats.put("totalReservations", totalReservations);
+        yearlyStats.put("totalParticipants", totalParticipants);
+
+        return yearlyStats;
+    }
 }
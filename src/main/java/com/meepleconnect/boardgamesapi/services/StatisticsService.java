@@ -0,0 +1,26 @@
+package com.meepleconnect.boardgamesapi.services;
+
+import com.meepleconnect.boardgamesapi.models.DashboardCounts;
+import com.meepleconnect.boardgamesapi.statistics.DashboardCounters;
+import com.meepleconnect.boardgamesapi.statistics.ReservationDailyRollup;
+import org.springframework.stereotype.Service;
+
+@Service
+public class StatisticsService {
+
+    private final DashboardCounters dashboardCounters;
+    private final ReservationDailyRollup reservationDailyRollup;
+
+    public StatisticsService(DashboardCounters dashboardCounters, ReservationDailyRollup reservationDailyRollup) {
+        this.dashboardCounters = dashboardCounters;
+        this.reservationDailyRollup = reservationDailyRollup;
+    }
+
+    public DashboardCounts getDashboardStatistics() {
+        return dashboardCounters.current();
+    }
+
+    public void rebuildReservationRollup() {
+        reservationDailyRollup.rebuild();
+    }
+}
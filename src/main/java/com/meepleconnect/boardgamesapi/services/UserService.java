@@ -1,10 +1,13 @@
 package com.meepleconnect.boardgamesapi.services;
 
 import com.meepleconnect.boardgamesapi.entities.User;
+import com.meepleconnect.boardgamesapi.events.UserChangedEvent;
 import com.meepleconnect.boardgamesapi.exceptions.UserNotFoundException;
 import com.meepleconnect.boardgamesapi.repositories.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,19 +17,25 @@ import java.util.Optional;
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+            ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
+    @Transactional
     public User registerUser(User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(savedUser.getId()));
+        return savedUser;
     }
 
     public User getUserById(Long id) {
@@ -34,6 +43,7 @@ public class UserService {
                 .orElseThrow(() -> new UserNotFoundException("User with ID " + id + " not found."));
     }
 
+    @Transactional
     public User updateUser(Long id, User userDetails) {
         User existingUser = getUserById(id);
 
@@ -43,12 +53,20 @@ public class UserService {
         }
 
         existingUser.setRoles(new ArrayList<>(userDetails.getRoles()));
+        existingUser.setTokenVersion(existingUser.getTokenVersion() + 1);
 
-        return userRepository.save(existingUser);
+        User savedUser = userRepository.save(existingUser);
+        eventPublisher.publishEvent(UserChangedEvent.updated(savedUser.getId()));
+        return savedUser;
     }
 
+    @Transactional
     public void deleteUser(Long id) {
+        if (!userRepository.existsById(id)) {
+            return;
+        }
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(UserChangedEvent.deleted(id));
     }
 
     public long getTotalUsersCount() {
@@ -0,0 +1,129 @@
+package com.meepleconnect.boardgamesapi.statistics;
+
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
+import com.meepleconnect.boardgamesapi.events.ReservationChangedEvent;
+import com.meepleconnect.boardgamesapi.events.UserChangedEvent;
+import com.meepleconnect.boardgamesapi.models.DashboardCounts;
+import com.meepleconnect.boardgamesapi.models.DashboardStatistics;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dashboard totals kept in memory and adjusted from after-commit domain events, so polling the dashboard does not
+ * hit the database. Writes that bypass the services are corrected by the periodic reconciliation, which also
+ * moves reservations out of the active count once their date has passed.
+ */
+@Component
+public class DashboardCounters {
+
+    private final BoardgameRepository boardgameRepository;
+    private final LongAdder totalBoardgames = new LongAdder();
+    private final LongAdder availableBoardgames = new LongAdder();
+    private final LongAdder totalReservations = new LongAdder();
+    private final LongAdder activeReservations = new LongAdder();
+    private final LongAdder totalUsers = new LongAdder();
+
+    private volatile Instant reconciledAt;
+    private volatile LocalDate reconciledFor;
+
+    public DashboardCounters(BoardgameRepository boardgameRepository) {
+        this.boardgameRepository = boardgameRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${statistics.dashboard.reconcile-interval:PT5M}",
+            initialDelayString = "${statistics.dashboard.reconcile-interval:PT5M}")
+    public synchronized void reconcile() {
+        LocalDate today = LocalDate.now();
+        DashboardStatistics statistics = boardgameRepository.findDashboardStatistics(today);
+        reset(totalBoardgames, statistics.getTotalBoardgames());
+        reset(availableBoardgames, statistics.getAvailableBoardgames());
+        reset(totalReservations, statistics.getTotalReservations());
+        reset(activeReservations, statistics.getActiveReservations());
+        reset(totalUsers, statistics.getTotalUsers());
+        reconciledFor = today;
+        reconciledAt = Instant.now();
+    }
+
+    public void warmUp() {
+        ensureReconciled();
+    }
+
+    public DashboardCounts current() {
+        ensureReconciled();
+        return new DashboardCounts(
+                totalBoardgames.sum(),
+                availableBoardgames.sum(),
+                totalReservations.sum(),
+                activeReservations.sum(),
+                totalUsers.sum(),
+                reconciledAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardgameChanged(BoardgameChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> {
+                totalBoardgames.increment();
+                if (event.boardgame().isAvailable()) {
+                    availableBoardgames.increment();
+                }
+            }
+            case UPDATED -> {
+                boolean available = event.boardgame().isAvailable();
+                if (available != event.previouslyAvailable()) {
+                    availableBoardgames.add(available ? 1 : -1);
+                }
+            }
+            case DELETED -> {
+                totalBoardgames.decrement();
+                if (event.previouslyAvailable()) {
+                    availableBoardgames.decrement();
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        long delta = event.type() == ReservationChangedEvent.ChangeType.CREATED ? 1 : -1;
+        totalReservations.add(delta);
+        if (reconciledFor != null && event.reservationDate().isAfter(reconciledFor)) {
+            activeReservations.add(delta);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> totalUsers.increment();
+            case DELETED -> totalUsers.decrement();
+            default -> {
+            }
+        }
+    }
+
+    private void ensureReconciled() {
+        if (isStale()) {
+            synchronized (this) {
+                if (isStale()) {
+                    reconcile();
+                }
+            }
+        }
+    }
+
+    private boolean isStale() {
+        return reconciledAt == null || !LocalDate.now().equals(reconciledFor);
+    }
+
+    private static void reset(LongAdder adder, long value) {
+        adder.reset();
+        adder.add(value);
+    }
+}
@@ -0,0 +1,100 @@
+package com.meepleconnect.boardgamesapi.statistics;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * One time bucket of the trending tracker: a Count-Min Sketch for frequency estimates plus a fixed number of
+ * Space-Saving style candidate slots that remember the heaviest ids seen. All updates are CAS based.
+ */
+final class HeavyHitterBucket {
+
+    private static final long[] ROW_SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+    private static final int OFFER_ATTEMPTS = 4;
+
+    private final long period;
+    private final int width;
+    private final AtomicLongArray counts;
+    private final AtomicReferenceArray<Candidate> candidates;
+
+    HeavyHitterBucket(long period, int width, int capacity) {
+        this.period = period;
+        this.width = width;
+        this.counts = new AtomicLongArray(ROW_SEEDS.length * width);
+        this.candidates = new AtomicReferenceArray<>(capacity);
+    }
+
+    long period() {
+        return period;
+    }
+
+    void add(long id, long weight) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < ROW_SEEDS.length; row++) {
+            estimate = Math.min(estimate, counts.addAndGet(index(row, id), weight));
+        }
+        offer(id, estimate);
+    }
+
+    long estimate(long id) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < ROW_SEEDS.length; row++) {
+            estimate = Math.min(estimate, counts.get(index(row, id)));
+        }
+        return estimate;
+    }
+
+    void collectCandidates(Set<Long> into) {
+        for (int slot = 0; slot < candidates.length(); slot++) {
+            Candidate candidate = candidates.get(slot);
+            if (candidate != null) {
+                into.add(candidate.id());
+            }
+        }
+    }
+
+    private void offer(long id, long estimate) {
+        for (int attempt = 0; attempt < OFFER_ATTEMPTS; attempt++) {
+            int minSlot = -1;
+            Candidate min = null;
+            boolean retry = false;
+            for (int slot = 0; slot < candidates.length() && !retry; slot++) {
+                Candidate candidate = candidates.get(slot);
+                if (candidate == null) {
+                    if (candidates.compareAndSet(slot, null, new Candidate(id, estimate))) {
+                        return;
+                    }
+                    retry = true;
+                } else if (candidate.id() == id) {
+                    if (candidate.count() >= estimate
+                            || candidates.compareAndSet(slot, candidate, new Candidate(id, estimate))) {
+                        return;
+                    }
+                    retry = true;
+                } else if (min == null || candidate.count() < min.count()) {
+                    minSlot = slot;
+                    min = candidate;
+                }
+            }
+            if (retry) {
+                continue;
+            }
+            if (min == null || estimate <= min.count()
+                    || candidates.compareAndSet(minSlot, min, new Candidate(id, estimate))) {
+                return;
+            }
+        }
+    }
+
+    private int index(int row, long id) {
+        long hash = id * ROW_SEEDS[row];
+        hash ^= hash >>> 31;
+        return row * width + (int) Math.floorMod(hash, (long) width);
+    }
+
+    private record Candidate(long id, long count) {
+    }
+}
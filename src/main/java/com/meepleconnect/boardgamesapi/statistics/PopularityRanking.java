@@ -0,0 +1,219 @@
+package com.meepleconnect.boardgamesapi.statistics;
+
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
+import com.meepleconnect.boardgamesapi.events.ReservationChangedEvent;
+import com.meepleconnect.boardgamesapi.models.PopularBoardgame;
+import com.meepleconnect.boardgamesapi.models.ReservationActivity;
+import com.meepleconnect.boardgamesapi.repositories.ReservationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Ranks boardgames by reservation frequency with exponential time decay. Scores use a fixed landmark, so decay
+ * shifts every game by the same factor and the ranking only changes when a reservation is added or cancelled;
+ * the top entries are kept in a bounded ordered set and served without touching the database.
+ */
+@Component
+public class PopularityRanking {
+
+    private static final int HORIZON_HALF_LIVES = 10;
+    private static final double RESCALE_EXPONENT = 512;
+    private static final double MIN_SCORE = 1e-9;
+    private static final Comparator<RankedGame> BY_SCORE = Comparator
+            .comparingDouble((RankedGame game) -> game.score).reversed()
+            .thenComparing(game -> game.id);
+
+    private final ReservationRepository reservationRepository;
+    private final Duration halfLife;
+    private final int topSize;
+    private final Clock clock;
+    private final Map<Long, RankedGame> games = new HashMap<>();
+    private final TreeSet<RankedGame> top = new TreeSet<>(BY_SCORE);
+
+    private Instant landmark;
+    private volatile Ranking ranking;
+    private volatile boolean loaded;
+
+    @Autowired
+    public PopularityRanking(ReservationRepository reservationRepository,
+            @Value("${statistics.popularity.half-life:P14D}") Duration halfLife,
+            @Value("${statistics.popularity.top-size:5}") int topSize) {
+        this(reservationRepository, halfLife, topSize, Clock.systemUTC());
+    }
+
+    PopularityRanking(ReservationRepository reservationRepository, Duration halfLife, int topSize, Clock clock) {
+        this.reservationRepository = reservationRepository;
+        this.halfLife = halfLife;
+        this.topSize = topSize;
+        this.clock = clock;
+        this.landmark = clock.instant();
+        this.ranking = new Ranking(landmark, List.of());
+    }
+
+    @Scheduled(cron = "${statistics.popularity.rebuild-cron:0 45 3 * * *}")
+    public void rebuild() {
+        Instant since = clock.instant().minus(halfLife.multipliedBy(HORIZON_HALF_LIVES));
+        List<ReservationActivity> activity = reservationRepository.findActivitySince(since);
+        synchronized (this) {
+            games.clear();
+            landmark = since;
+            for (ReservationActivity reservation : activity) {
+                games.computeIfAbsent(reservation.getBoardgameId(), RankedGame::new)
+                        .rename(reservation.getName(), reservation.getGenre())
+                        .score += weight(reservation.getCreatedAt());
+            }
+            refillTop();
+            publish();
+            loaded = true;
+        }
+    }
+
+    public void warmUp() {
+        ensureLoaded();
+    }
+
+    public List<PopularBoardgame> top() {
+        ensureLoaded();
+        Ranking current = ranking;
+        double decay = Math.pow(2, -exponent(current.landmark(), clock.instant()));
+        return current.games().stream()
+                .map(game -> new PopularBoardgame(game.id(), game.name(), game.genre(),
+                        Math.round(game.score() * decay * 100.0) / 100.0))
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onReservationChanged(ReservationChangedEvent event) {
+        boolean created = event.type() == ReservationChangedEvent.ChangeType.CREATED;
+        RankedGame game = games.get(event.boardgameId());
+        if (game == null && !created) {
+            return;
+        }
+        if (game == null) {
+            game = new RankedGame(event.boardgameId());
+            games.put(game.id, game);
+        }
+        game.rename(event.boardgameName(), event.genre());
+
+        double weight = weight(event.createdAt());
+        boolean wasTop = top.remove(game);
+        game.score += created ? weight : -weight;
+        if (game.score <= MIN_SCORE) {
+            games.remove(game.id);
+        }
+
+        if (wasTop && !created) {
+            refillTop();
+        } else if (games.containsKey(game.id)) {
+            offer(game);
+        }
+        publish();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBoardgameChanged(BoardgameChangedEvent event) {
+        RankedGame game = games.get(event.boardgameId());
+        if (game == null) {
+            return;
+        }
+        switch (event.type()) {
+            case UPDATED -> game.rename(event.boardgame().getName(), event.boardgame().getGenre());
+            case DELETED -> {
+                games.remove(game.id);
+                if (top.remove(game)) {
+                    refillTop();
+                }
+            }
+            default -> {
+                return;
+            }
+        }
+        publish();
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private double weight(Instant createdAt) {
+        Instant at = createdAt != null ? createdAt : clock.instant();
+        double exponent = exponent(landmark, at);
+        if (exponent > RESCALE_EXPONENT) {
+            rescale(at);
+            exponent = 0;
+        }
+        return Math.pow(2, exponent);
+    }
+
+    private double exponent(Instant from, Instant to) {
+        return (double) Duration.between(from, to).toMillis() / halfLife.toMillis();
+    }
+
+    private void rescale(Instant newLandmark) {
+        double factor = Math.pow(2, -exponent(landmark, newLandmark));
+        games.values().forEach(game -> game.score *= factor);
+        landmark = newLandmark;
+        refillTop();
+    }
+
+    private void offer(RankedGame game) {
+        if (top.size() < topSize) {
+            top.add(game);
+        } else if (BY_SCORE.compare(game, top.last()) < 0) {
+            top.pollLast();
+            top.add(game);
+        }
+    }
+
+    private void refillTop() {
+        top.clear();
+        games.values().forEach(this::offer);
+    }
+
+    private void publish() {
+        ranking = new Ranking(landmark, top.stream()
+                .map(game -> new RankedEntry(game.id, game.name, game.genre, game.score))
+                .toList());
+    }
+
+    private static final class RankedGame {
+        private final Long id;
+        private String name;
+        private String genre;
+        private double score;
+
+        private RankedGame(Long id) {
+            this.id = id;
+        }
+
+        private RankedGame rename(String name, String genre) {
+            this.name = name;
+            this.genre = genre;
+            return this;
+        }
+    }
+
+    private record RankedEntry(Long id, String name, String genre, double score) {
+    }
+
+    private record Ranking(Instant landmark, List<RankedEntry> games) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.meepleconnect.boardgamesapi.statistics;
+
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
+import com.meepleconnect.boardgamesapi.events.ReservationChangedEvent;
+import com.meepleconnect.boardgamesapi.models.ReservationDailyStats;
+import com.meepleconnect.boardgamesapi.repositories.ReservationDailyStatsRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Maintains the reservation_daily_stats rollup (one row per reservation date and boardgame) from after-commit
+ * reservation events, so analytics read a few aggregated rows instead of scanning reservations. The nightly (or
+ * admin-triggered) rebuild recomputes the table in a single transaction and corrects anything written outside the
+ * services. A reservation transaction holds the rebuild off from just before it commits until its increment is
+ * applied, so no reservation is both in the rebuilt rows and applied again afterwards, or in neither.
+ */
+@Component
+public class ReservationDailyRollup {
+
+    private final ReservationDailyStatsRepository dailyStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate rebuildTransaction;
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    public ReservationDailyRollup(ReservationDailyStatsRepository dailyStatsRepository,
+            PlatformTransactionManager transactionManager) {
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${statistics.reservations.rollup-rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            rebuildTransaction.executeWithoutResult(status -> {
+                dailyStatsRepository.deleteAllInBatch();
+                dailyStatsRepository.insertFromReservations();
+            });
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void holdRebuildUntilApplied(ReservationChangedEvent event) {
+        rebuildLock.readLock().lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                rebuildLock.readLock().unlock();
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        rebuildLock.readLock().lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(event));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent first reservation for the same day and game inserted the row; add to it instead.
+            transactionTemplate.executeWithoutResult(status -> apply(event));
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardgameChanged(BoardgameChangedEvent event) {
+        switch (event.type()) {
+            case UPDATED -> transactionTemplate.executeWithoutResult(status -> dailyStatsRepository
+                    .updateGenre(event.boardgameId(), event.boardgame().getGenre()));
+            case DELETED -> transactionTemplate.executeWithoutResult(status -> dailyStatsRepository
+                    .deleteByBoardgame(event.boardgameId()));
+            default -> {
+            }
+        }
+    }
+
+    private void apply(ReservationChangedEvent event) {
+        boolean created = event.type() == ReservationChangedEvent.ChangeType.CREATED;
+        long reservations = created ? 1 : -1;
+        long participants = reservations * event.participantCount();
+
+        int updated = dailyStatsRepository.addToDay(event.reservationDate(), event.boardgameId(), reservations,
+                participants);
+        if (created && updated == 0) {
+            dailyStatsRepository.saveAndFlush(new ReservationDailyStats(event.reservationDate(),
+                    event.boardgameId(), event.genre(), reservations, participants));
+        } else if (!created) {
+            dailyStatsRepository.deleteEmptyDay(event.reservationDate(), event.boardgameId());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.meepleconnect.boardgamesapi.statistics;
+
+import com.meepleconnect.boardgamesapi.events.ReservationChangedEvent;
+import com.meepleconnect.boardgamesapi.models.TrendingWindow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Streaming trending counts for boardgame views and reservations over the last hour, day and week. Each window is a
+ * ring of fixed-size sketch buckets that are replaced as time moves on, so memory does not grow with the catalog or
+ * the traffic and request threads never block each other.
+ */
+@Component
+public class TrendingTracker {
+
+    private static final int SKETCH_WIDTH = 1024;
+    private static final int CANDIDATES_PER_BUCKET = 64;
+
+    private final Clock clock;
+    private final long reservationWeight;
+    private final long viewWeight;
+    private final Map<TrendingWindow, AtomicReferenceArray<HeavyHitterBucket>> rings =
+            new EnumMap<>(TrendingWindow.class);
+
+    @Autowired
+    public TrendingTracker(@Value("${statistics.trending.reservation-weight:5}") long reservationWeight,
+            @Value("${statistics.trending.view-weight:1}") long viewWeight) {
+        this(reservationWeight, viewWeight, Clock.systemUTC());
+    }
+
+    TrendingTracker(long reservationWeight, long viewWeight, Clock clock) {
+        this.reservationWeight = reservationWeight;
+        this.viewWeight = viewWeight;
+        this.clock = clock;
+        for (TrendingWindow window : TrendingWindow.values()) {
+            rings.put(window, new AtomicReferenceArray<>(window.getBuckets()));
+        }
+    }
+
+    public void recordView(Long boardgameId) {
+        record(boardgameId, viewWeight);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.type() == ReservationChangedEvent.ChangeType.CREATED) {
+            record(event.boardgameId(), reservationWeight);
+        }
+    }
+
+    public Map<Long, Long> top(TrendingWindow window, int limit) {
+        long currentPeriod = period(window, clock.millis());
+        List<HeavyHitterBucket> live = liveBuckets(window, currentPeriod);
+
+        Set<Long> candidates = new HashSet<>();
+        live.forEach(bucket -> bucket.collectCandidates(candidates));
+
+        Map<Long, Long> top = new LinkedHashMap<>();
+        candidates.stream()
+                .map(id -> Map.entry(id, live.stream().mapToLong(bucket -> bucket.estimate(id)).sum()))
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    private void record(Long boardgameId, long weight) {
+        if (boardgameId == null || weight <= 0) {
+            return;
+        }
+        long now = clock.millis();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            currentBucket(window, period(window, now)).add(boardgameId, weight);
+        }
+    }
+
+    private HeavyHitterBucket currentBucket(TrendingWindow window, long period) {
+        AtomicReferenceArray<HeavyHitterBucket> ring = rings.get(window);
+        int slot = (int) Math.floorMod(period, (long) window.getBuckets());
+        HeavyHitterBucket bucket = ring.get(slot);
+        while (bucket == null || bucket.period() < period) {
+            HeavyHitterBucket fresh = new HeavyHitterBucket(period, SKETCH_WIDTH, CANDIDATES_PER_BUCKET);
+            if (ring.compareAndSet(slot, bucket, fresh)) {
+                return fresh;
+            }
+            bucket = ring.get(slot);
+        }
+        return bucket;
+    }
+
+    private List<HeavyHitterBucket> liveBuckets(TrendingWindow window, long currentPeriod) {
+        AtomicReferenceArray<HeavyHitterBucket> ring = rings.get(window);
+        long oldest = currentPeriod - window.getBuckets() + 1;
+        List<HeavyHitterBucket> live = new ArrayList<>(window.getBuckets());
+        for (int slot = 0; slot < ring.length(); slot++) {
+            HeavyHitterBucket bucket = ring.get(slot);
+            if (bucket != null && bucket.period() >= oldest && bucket.period() <= currentPeriod) {
+                live.add(bucket);
+            }
+        }
+        return live;
+    }
+
+    private static long period(TrendingWindow window, long epochMillis) {
+        return Math.floorDiv(epochMillis, window.getBucketSize().toMillis());
+    }
+}
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_reservations_customer_date ON reservations (customer_id, reservation_date);
@@ -0,0 +1,59 @@
+CREATE TABLE IF NOT EXISTS roles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    role_name VARCHAR(255),
+    active BOOLEAN NOT NULL,
+    description VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_name VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    is_expired BOOLEAN NOT NULL,
+    is_locked BOOLEAN NOT NULL,
+    are_credentials_expired BOOLEAN NOT NULL,
+    is_enabled BOOLEAN NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS user_role (
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    role_id BIGINT NOT NULL REFERENCES roles (id)
+);
+
+CREATE TABLE IF NOT EXISTS user_profiles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT UNIQUE REFERENCES users (id),
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    email VARCHAR(255),
+    phone_number VARCHAR(255),
+    date_of_birth DATE
+);
+
+CREATE TABLE IF NOT EXISTS publishers (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL UNIQUE,
+    country_of_origin VARCHAR(50) NOT NULL,
+    founded INTEGER NOT NULL,
+    is_indie BOOLEAN NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS boardgames (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    price NUMERIC(10, 2) NOT NULL,
+    min_players INTEGER NOT NULL,
+    max_players INTEGER NOT NULL,
+    genre VARCHAR(50) NOT NULL,
+    available BOOLEAN NOT NULL,
+    publisher_id BIGINT NOT NULL REFERENCES publishers (id)
+);
+
+CREATE TABLE IF NOT EXISTS reservations (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_id BIGINT NOT NULL REFERENCES users (id),
+    boardgame_id BIGINT NOT NULL REFERENCES boardgames (id),
+    reservation_date DATE NOT NULL,
+    participant_count INTEGER NOT NULL,
+    notes VARCHAR(500)
+);
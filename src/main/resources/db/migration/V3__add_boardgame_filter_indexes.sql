@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_boardgames_genre ON boardgames (genre);
+CREATE INDEX IF NOT EXISTS idx_boardgames_lower_genre ON boardgames (lower(genre));
+CREATE INDEX IF NOT EXISTS idx_boardgames_available_players ON boardgames (available, min_players, max_players);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_boardgames_name_id ON boardgames (name, id);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_reservations_reservation_date ON reservations (reservation_date);
@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS reservation_daily_stats (
+    id BIGSERIAL PRIMARY KEY,
+    stat_date DATE NOT NULL,
+    boardgame_id BIGINT NOT NULL,
+    genre VARCHAR(255),
+    reservation_count BIGINT NOT NULL DEFAULT 0,
+    participant_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_reservation_daily_stats_date_boardgame UNIQUE (stat_date, boardgame_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_reservation_daily_stats_boardgame_id ON reservation_daily_stats (boardgame_id);
+
+INSERT INTO reservation_daily_stats (stat_date, boardgame_id, genre, reservation_count, participant_count)
+SELECT r.reservation_date, b.id, b.genre, COUNT(*), SUM(r.participant_count)
+FROM reservations r
+JOIN boardgames b ON b.id = r.boardgame_id
+GROUP BY r.reservation_date, b.id, b.genre
+ON CONFLICT (stat_date, boardgame_id) DO NOTHING;
@@ -0,0 +1,3 @@
+CREATE SEQUENCE IF NOT EXISTS boardgames_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('boardgames_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM boardgames));
@@ -1,5 +1,7 @@
 package com.meepleconnect.boardgamesapi;
 
+import com.meepleconnect.boardgamesapi.config.CacheWarmupTest;
+import com.meepleconnect.boardgamesapi.config.SchedulingConfigIT;
 import com.meepleconnect.boardgamesapi.controllers.AnalyticsControllerIT;
 import com.meepleconnect.boardgamesapi.controllers.BoardgameControllerIT;
 import com.meepleconnect.boardgamesapi.controllers.EasterEggControllerIT;
@@ -16,15 +18,37 @@ import com.meepleconnect.boardgamesapi.controllers.SearchControllerIT;
 import com.meepleconnect.boardgamesapi.controllers.SecureControllerIT;
 import com.meepleconnect.boardgamesapi.controllers.StatisticsControllerIT;
 import com.meepleconnect.boardgamesapi.controllers.UserControllerIT;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameSpecificationsIT;
+import com.meepleconnect.boardgamesapi.search.BoardgameNameIndexTest;
+import com.meepleconnect.boardgamesapi.search.BoardgameNameMatcherTest;
+import com.meepleconnect.boardgamesapi.search.CatalogResponseCacheTest;
+import com.meepleconnect.boardgamesapi.search.CatalogSnapshotIT;
+import com.meepleconnect.boardgamesapi.search.CatalogSnapshotTest;
+import com.meepleconnect.boardgamesapi.security.BoundedPasswordEncoderTest;
+import com.meepleconnect.boardgamesapi.security.CachingUserDetailsServiceTest;
+import com.meepleconnect.boardgamesapi.security.JwtFilterTest;
+import com.meepleconnect.boardgamesapi.security.RevokedTokenListTest;
+import com.meepleconnect.boardgamesapi.security.TokenVersionCacheTest;
+import com.meepleconnect.boardgamesapi.services.AnalyticsServiceTest;
+import com.meepleconnect.boardgamesapi.services.BoardgameExportServiceTest;
+import com.meepleconnect.boardgamesapi.services.BoardgameImportServiceTest;
+import com.meepleconnect.boardgamesapi.services.RefreshTokenServiceTest;
+import com.meepleconnect.boardgamesapi.services.BoardgameFacetServiceTest;
 import com.meepleconnect.boardgamesapi.services.BoardgameServiceTest;
 import com.meepleconnect.boardgamesapi.services.PublisherServiceTest;
 import com.meepleconnect.boardgamesapi.services.ReservationServiceTest;
 import com.meepleconnect.boardgamesapi.services.UserServiceTest;
+import com.meepleconnect.boardgamesapi.statistics.DashboardCountersTest;
+import com.meepleconnect.boardgamesapi.statistics.PopularityRankingTest;
+import com.meepleconnect.boardgamesapi.statistics.ReservationDailyRollupTest;
+import com.meepleconnect.boardgamesapi.statistics.TrendingTrackerTest;
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
 
 @Suite
 @SelectClasses({
+        CacheWarmupTest.class,
+        SchedulingConfigIT.class,
         AnalyticsControllerIT.class,
         BoardgameControllerIT.class,
         EasterEggControllerIT.class,
@@ -41,10 +65,30 @@ import org.junit.platform.suite.api.Suite;
         SecureControllerIT.class,
         StatisticsControllerIT.class,
         UserControllerIT.class,
+        BoardgameSpecificationsIT.class,
+        CatalogSnapshotIT.class,
         BoardgameServiceTest.class,
         PublisherServiceTest.class,
         ReservationServiceTest.class,
-        UserServiceTest.class
+        UserServiceTest.class,
+        BoardgameNameIndexTest.class,
+        BoardgameNameMatcherTest.class,
+        CatalogSnapshotTest.class,
+        BoardgameFacetServiceTest.class,
+        DashboardCountersTest.class,
+        AnalyticsServiceTest.class,
+        ReservationDailyRollupTest.class,
+        PopularityRankingTest.class,
+        TrendingTrackerTest.class,
+        CatalogResponseCacheTest.class,
+        BoardgameExportServiceTest.class,
+        BoardgameImportServiceTest.class,
+        JwtFilterTest.class,
+        TokenVersionCacheTest.class,
+        CachingUserDetailsServiceTest.class,
+        BoundedPasswordEncoderTest.class,
+        RevokedTokenListTest.class,
+        RefreshTokenServiceTest.class
 })
 public class AllTests {
     // Deze klasse dient alleen als container voor de test suite
@@ -0,0 +1,62 @@
+package com.meepleconnect.boardgamesapi.config;
+
+import com.meepleconnect.boardgamesapi.search.BoardgameNameIndex;
+import com.meepleconnect.boardgamesapi.search.CatalogSnapshot;
+import com.meepleconnect.boardgamesapi.statistics.DashboardCounters;
+import com.meepleconnect.boardgamesapi.statistics.PopularityRanking;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheWarmupTest {
+
+    @Mock
+    private CatalogSnapshot catalogSnapshot;
+
+    @Mock
+    private BoardgameNameIndex boardgameNameIndex;
+
+    @Mock
+    private PopularityRanking popularityRanking;
+
+    @Mock
+    private DashboardCounters dashboardCounters;
+
+    @Test
+    void onApplicationReady_WhenAsync_ShouldWarmUpOnBackgroundThread() throws Exception {
+        CompletableFuture<Thread> warmedUpOn = new CompletableFuture<>();
+        doAnswer(invocation -> warmedUpOn.complete(Thread.currentThread())).when(catalogSnapshot).rebuild();
+
+        warmup(true).onApplicationReady();
+
+        Thread thread = warmedUpOn.get(5, TimeUnit.SECONDS);
+        assertThat(thread).isNotSameAs(Thread.currentThread());
+        assertThat(thread.isDaemon()).isTrue();
+        verify(dashboardCounters).warmUp();
+        verify(popularityRanking).warmUp();
+        verify(boardgameNameIndex).warmUp();
+    }
+
+    @Test
+    void onApplicationReady_WhenNotAsync_ShouldWarmUpBeforeReturning() {
+        warmup(false).onApplicationReady();
+
+        verify(dashboardCounters).warmUp();
+        verify(popularityRanking).warmUp();
+        verify(boardgameNameIndex).warmUp();
+        verify(catalogSnapshot).rebuild();
+    }
+
+    private CacheWarmup warmup(boolean async) {
+        return new CacheWarmup(catalogSnapshot, boardgameNameIndex, popularityRanking, dashboardCounters, async);
+    }
+}
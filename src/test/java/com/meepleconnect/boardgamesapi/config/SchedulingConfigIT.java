@@ -0,0 +1,34 @@
+package com.meepleconnect.boardgamesapi.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.main.lazy-initialization=true")
+@ActiveProfiles("test")
+public class SchedulingConfigIT {
+
+    @Autowired
+    private List<ScheduledTaskHolder> scheduledTaskHolders;
+
+    @Test
+    void scheduledTasks_WithLazyInitialization_ShouldBeRegisteredAtStartup() {
+        List<String> tasks = scheduledTaskHolders.stream()
+                .flatMap(holder -> holder.getScheduledTasks().stream())
+                .map(ScheduledTask::getTask)
+                .map(task -> task.getRunnable().toString())
+                .toList();
+
+        assertThat(tasks).anyMatch(task -> task.endsWith("ReservationDailyRollup.rebuild"))
+                .anyMatch(task -> task.endsWith("RefreshTokenService.deleteExpired"))
+                .anyMatch(task -> task.endsWith("PopularityRanking.rebuild"))
+                .anyMatch(task -> task.endsWith("DashboardCounters.reconcile"));
+    }
+}
@@ -1,26 +1,46 @@
 package com.meepleconnect.boardgamesapi.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.meepleconnect.boardgamesapi.dtos.BoardgameDTOMapper;
 import com.meepleconnect.boardgamesapi.dtos.BoardgameRequestDTO;
+import com.meepleconnect.boardgamesapi.dtos.BoardgameResponseDTO;
+import com.meepleconnect.boardgamesapi.dtos.BoardgameSearchRequestDTO;
+import com.meepleconnect.boardgamesapi.helpers.BoardgameCursor;
 import com.meepleconnect.boardgamesapi.models.Boardgame;
 import com.meepleconnect.boardgamesapi.models.Publisher;
 import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameSpecifications;
 import com.meepleconnect.boardgamesapi.repositories.PublisherRepository;
+import com.meepleconnect.boardgamesapi.services.BoardgameService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -41,6 +61,18 @@ public class BoardgameControllerIT {
     @Autowired
     private PublisherRepository publisherRepository;
 
+    @Autowired
+    private BoardgameService boardgameService;
+
+    @Autowired
+    private BoardgameDTOMapper boardgameDTOMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -206,6 +238,164 @@ public class BoardgameControllerIT {
                 .andExpect(jsonPath("$[0].available").value(true));
     }
 
+    @Test
+    void getAllBoardgames_WithMatchingEtag_ShouldReturnNotModifiedWithoutQuerying() throws Exception {
+        String etag = mockMvc.perform(get("/api/boardgames"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean wasEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            mockMvc.perform(get("/api/boardgames")
+                    .header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", etag))
+                    .andExpect(content().string(""));
+
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+        } finally {
+            statistics.setStatisticsEnabled(wasEnabled);
+        }
+    }
+
+    @Test
+    void getAllBoardgames_AfterCatalogChange_ShouldReturnNewEtagAndBody() throws Exception {
+        String etag = mockMvc.perform(get("/api/boardgames"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(org.hamcrest.Matchers.hasSize(1)))
+                .andReturn().getResponse().getHeader("ETag");
+
+        Boardgame secondGame = new Boardgame();
+        secondGame.setName("Etag Game");
+        secondGame.setPrice(new BigDecimal("19.99"));
+        secondGame.setAvailable(true);
+        secondGame.setMinPlayers(2);
+        secondGame.setMaxPlayers(4);
+        secondGame.setGenre("Family");
+        secondGame.setPublisher(testPublisher);
+        boardgameRepository.save(secondGame);
+
+        String newEtag = mockMvc.perform(get("/api/boardgames")
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(org.hamcrest.Matchers.hasSize(2)))
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    void getAllBoardgames_WithDifferentFilters_ShouldReturnDifferentEtags() throws Exception {
+        String allEtag = mockMvc.perform(get("/api/boardgames"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/boardgames")
+                .param("genre", "Strategy")
+                .header("If-None-Match", allEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", org.hamcrest.Matchers.not(allEtag)));
+    }
+
+    @Test
+    @WithMockUser
+    void listEndpoints_ShouldLoadPublishersInTheSameQueryForAnyListSize() throws Exception {
+        List<Long> singleGameCounts = listStatementCounts(1);
+
+        for (int i = 0; i < 5; i++) {
+            Publisher publisher = new Publisher();
+            publisher.setName("Fetch Publisher " + i);
+            publisher.setCountryOfOrigin("Germany");
+            publisher.setFounded(2000 + i);
+            publisher.setIndie(i % 2 == 0);
+            publisher = publisherRepository.save(publisher);
+
+            Boardgame boardgame = new Boardgame();
+            boardgame.setName("Fetch Game " + i);
+            boardgame.setPrice(new BigDecimal("15.00"));
+            boardgame.setAvailable(true);
+            boardgame.setMinPlayers(2);
+            boardgame.setMaxPlayers(4);
+            boardgame.setGenre("Strategy");
+            boardgame.setPublisher(publisher);
+            boardgameRepository.save(boardgame);
+        }
+
+        assertThat(listStatementCounts(6)).isEqualTo(singleGameCounts).containsOnly(1L);
+    }
+
+    @Test
+    void getFilteredBoardgames_ProjectionShouldAllocateLessThanEntityListing() {
+        for (int i = 0; i < 200; i++) {
+            saveFacetGame("Allocation Game " + i, "Allocation", "12.50", 2, 4, true);
+        }
+        entityManager.flush();
+
+        Specification<Boardgame> filter = BoardgameSpecifications.withFilters("Allocation", null, null, null);
+        Supplier<List<BoardgameResponseDTO>> entityListing = () ->
+                boardgameDTOMapper.toResponseDTOList(boardgameRepository.findAll(filter));
+        Supplier<List<BoardgameResponseDTO>> projectionListing = () ->
+                boardgameDTOMapper.toListingResponseDTOList(
+                        boardgameService.getFilteredBoardgames("Allocation", null, null, null));
+
+        assertThat(projectionListing.get()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(entityListing.get());
+
+        long entityBytes = allocatedBytesPerCall(entityListing);
+        long projectionBytes = allocatedBytesPerCall(projectionListing);
+
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void exportBoardgames_ShouldStreamCatalogAsJsonNdjsonAndGzip() throws Exception {
+        try {
+            MvcResult json = exportRequest(get("/api/boardgames/export"));
+            assertThat(json.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+            List<String> names = JsonPath.read(json.getResponse().getContentAsString(), "$[*].name");
+            assertThat(names).contains("Test Game").hasSize((int) boardgameRepository.count());
+
+            MvcResult ndjson = exportRequest(get("/api/boardgames/export").param("format", "ndjson"));
+            assertThat(ndjson.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON_VALUE);
+            String[] lines = ndjson.getResponse().getContentAsString().split("\n");
+            assertThat(lines).hasSize((int) boardgameRepository.count());
+            assertThat(lines).anySatisfy(line -> assertThat(objectMapper.readTree(line).get("name").asText())
+                    .isEqualTo("Test Game"));
+
+            MvcResult gzip = exportRequest(get("/api/boardgames/export").header("Accept-Encoding", "gzip"));
+            assertThat(gzip.getResponse().getHeader("Content-Encoding")).isEqualTo("gzip");
+            try (GZIPInputStream in = new GZIPInputStream(
+                    new ByteArrayInputStream(gzip.getResponse().getContentAsByteArray()))) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                        .isEqualTo(json.getResponse().getContentAsString());
+            }
+        } finally {
+            boardgameRepository.delete(testBoardgame);
+            publisherRepository.delete(testPublisher);
+        }
+    }
+
+    @Test
+    void exportBoardgames_WithGzipRefused_ShouldNotCompress() throws Exception {
+        MvcResult refused = exportRequest(get("/api/boardgames/export").header("Accept-Encoding", "gzip;q=0, br"));
+        assertThat(refused.getResponse().getHeader("Content-Encoding")).isNull();
+        assertThat(refused.getResponse().getContentAsString()).startsWith("[");
+
+        MvcResult upperCase = exportRequest(get("/api/boardgames/export").header("Accept-Encoding", "br, GZIP;q=0.5"));
+        assertThat(upperCase.getResponse().getHeader("Content-Encoding")).isEqualTo("gzip");
+    }
+
+    @Test
+    void exportBoardgames_WithUnknownFormat_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/boardgames/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getBoardgameById_WithValidId_ShouldReturnBoardgame() throws Exception {
         mockMvc.perform(get("/api/boardgames/{id}", testBoardgame.getId()))
@@ -638,4 +828,401 @@ public class BoardgameControllerIT {
         mockMvc.perform(delete("/api/boardgames/{id}", testBoardgame.getId()))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    void getBoardgamePage_SortedByName_ShouldWalkAllPagesWithCursor() throws Exception {
+        for (String name : List.of("Keyset C", "Keyset A", "Keyset E", "Keyset B", "Keyset D")) {
+            saveKeysetGame(name);
+        }
+
+        String firstPage = mockMvc.perform(get("/api/boardgames/page")
+                .param("genre", "Keyset")
+                .param("sort", "name")
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].name").value("Keyset A"))
+                .andExpect(jsonPath("$.items[1].name").value("Keyset B"))
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        String secondPage = mockMvc.perform(get("/api/boardgames/page")
+                .param("genre", "Keyset")
+                .param("sort", "name")
+                .param("size", "2")
+                .param("after", (String) JsonPath.read(firstPage, "$.nextCursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].name").value("Keyset C"))
+                .andExpect(jsonPath("$.items[1].name").value("Keyset D"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/boardgames/page")
+                .param("genre", "Keyset")
+                .param("sort", "name")
+                .param("size", "2")
+                .param("after", (String) JsonPath.read(secondPage, "$.nextCursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").value(org.hamcrest.Matchers.hasSize(1)))
+                .andExpect(jsonPath("$.items[0].name").value("Keyset E"))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getBoardgamePage_SortedById_ShouldReturnGamesAfterCursor() throws Exception {
+        Boardgame first = saveKeysetGame("Keyset First");
+        Boardgame second = saveKeysetGame("Keyset Second");
+
+        String firstPage = mockMvc.perform(get("/api/boardgames/page")
+                .param("genre", "Keyset")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(first.getId()))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/boardgames/page")
+                .param("genre", "Keyset")
+                .param("size", "1")
+                .param("after", (String) JsonPath.read(firstPage, "$.nextCursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getBoardgamePage_WithOversizedPage_ShouldCapPageSize() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            saveKeysetGame("Keyset Capped " + i);
+        }
+
+        mockMvc.perform(get("/api/boardgames/page")
+                .param("genre", "Keyset")
+                .param("size", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").value(org.hamcrest.Matchers.hasSize(3)))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getBoardgamePage_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/boardgames/page")
+                .param("after", "not a cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Bad Request"));
+    }
+
+    @Test
+    void getBoardgamePage_WithCursorForOtherSort_ShouldReturnBadRequest() throws Exception {
+        String idCursor = new BoardgameCursor(BoardgameCursor.SORT_BY_ID, testBoardgame.getId(), null).encode();
+
+        mockMvc.perform(get("/api/boardgames/page")
+                .param("sort", "name")
+                .param("after", idCursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Page cursor does not match sort 'name'."));
+    }
+
+    @Test
+    void getBoardgamePage_WithUnknownSort_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/boardgames/page")
+                .param("sort", "price"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Sort must be 'id' or 'name'."));
+    }
+
+    @Test
+    void getBoardgameFacets_ShouldCountGenresPlayerCountsPricesAndAvailability() throws Exception {
+        saveFacetGame("Facet One", "FacetGenre", "12.50", 1, 2, true);
+        saveFacetGame("Facet Two", "FacetGenre", "45.00", 3, 6, false);
+        saveFacetGame("Facet Three", "FacetGenre", "75.00", 2, 4, true);
+
+        mockMvc.perform(get("/api/boardgames/facets")
+                .param("genre", "facetgenre"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.genres.FacetGenre").value(3))
+                .andExpect(jsonPath("$.playerCounts.1").value(1))
+                .andExpect(jsonPath("$.playerCounts.2").value(2))
+                .andExpect(jsonPath("$.playerCounts.3-4").value(2))
+                .andExpect(jsonPath("$.playerCounts.5-6").value(1))
+                .andExpect(jsonPath("$.playerCounts.7+").value(0))
+                .andExpect(jsonPath("$.priceRanges.0-20").value(1))
+                .andExpect(jsonPath("$.priceRanges.40-60").value(1))
+                .andExpect(jsonPath("$.priceRanges.60+").value(1))
+                .andExpect(jsonPath("$.availability.available").value(2))
+                .andExpect(jsonPath("$.availability.unavailable").value(1));
+    }
+
+    @Test
+    void getBoardgameFacets_WithPriceFilter_ShouldOnlyCountMatchingGames() throws Exception {
+        saveFacetGame("Cheap Facet", "PricedFacet", "9.99", 2, 4, true);
+        saveFacetGame("Expensive Facet", "PricedFacet", "89.99", 2, 4, true);
+
+        mockMvc.perform(get("/api/boardgames/facets")
+                .param("genre", "PricedFacet")
+                .param("maxPrice", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.priceRanges.0-20").value(1))
+                .andExpect(jsonPath("$.priceRanges.60+").value(0));
+    }
+
+    @Test
+    void getBoardgameFacets_WithUnknownGenre_ShouldReturnZeroCounts() throws Exception {
+        mockMvc.perform(get("/api/boardgames/facets")
+                .param("genre", "NoSuchFacetGenre"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(0))
+                .andExpect(jsonPath("$.genres").isEmpty())
+                .andExpect(jsonPath("$.availability.available").value(0));
+    }
+
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getBoardgameById_RepeatedRead_ShouldIssueNoSql() throws Exception {
+        try {
+            mockMvc.perform(get("/api/boardgames/" + testBoardgame.getId()))
+                    .andExpect(status().isOk());
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            boolean wasEnabled = statistics.isStatisticsEnabled();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+            try {
+                mockMvc.perform(get("/api/boardgames/" + testBoardgame.getId()))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.name").value("Test Game"))
+                        .andExpect(jsonPath("$.publisher.name").value("Test Publisher"));
+
+                assertThat(statistics.getPrepareStatementCount()).isZero();
+                assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+            } finally {
+                statistics.setStatisticsEnabled(wasEnabled);
+            }
+
+            Boardgame renamed = new Boardgame();
+            renamed.setName("Renamed Game");
+            renamed.setPrice(new BigDecimal("29.99"));
+            renamed.setAvailable(true);
+            renamed.setMinPlayers(2);
+            renamed.setMaxPlayers(4);
+            renamed.setGenre("Strategy");
+            renamed.setPublisher(testPublisher);
+            boardgameService.updateBoardgame(testBoardgame.getId(), renamed);
+
+            mockMvc.perform(get("/api/boardgames/" + testBoardgame.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value("Renamed Game"));
+        } finally {
+            boardgameService.deleteBoardgame(testBoardgame.getId());
+            publisherRepository.delete(testPublisher);
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importBoardgames_WithJsonArray_ShouldImportValidRowsAndReportErrors() throws Exception {
+        String content = """
+                [
+                  {"name": "Imported Game", "price": 19.99, "minPlayers": 2, "maxPlayers": 4,
+                   "genre": "Import", "available": true, "publisherId": %d},
+                  {"name": "test game", "price": 19.99, "minPlayers": 2, "maxPlayers": 4,
+                   "genre": "Import", "available": true, "publisherId": %d},
+                  {"name": "", "price": 19.99, "minPlayers": 2, "maxPlayers": 4,
+                   "genre": "Import", "available": true, "publisherId": %d},
+                  {"name": "Orphan Game", "price": 19.99, "minPlayers": 2, "maxPlayers": 4,
+                   "genre": "Import", "available": true, "publisherId": 999999}
+                ]
+                """.formatted(testPublisher.getId(), testPublisher.getId(), testPublisher.getId());
+
+        mockMvc.perform(post("/api/boardgames/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(content))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(4))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.errors[0].row").value(3))
+                .andExpect(jsonPath("$.errors[0].messages[0]").value("Name is required"))
+                .andExpect(jsonPath("$.errors[1].row").value(2))
+                .andExpect(jsonPath("$.errors[1].messages[0]")
+                        .value("Boardgame with name 'test game' already exists."))
+                .andExpect(jsonPath("$.errors[2].row").value(4))
+                .andExpect(jsonPath("$.errors[2].messages[0]").value("Publisher with ID 999999 not found."))
+                .andExpect(jsonPath("$.errorsTruncated").value(false));
+
+        assertThat(boardgameRepository.findByNameIgnoreCase("Imported Game")).isPresent();
+        assertThat(boardgameRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importBoardgames_WithNdjsonAndCsv_ShouldImportEveryRow() throws Exception {
+        String ndjson = """
+                {"name": "Ndjson One", "price": 10.00, "minPlayers": 1, "maxPlayers": 2, "genre": "Import", "available": true, "publisherId": %d}
+                {"name": "Ndjson Two", "price": 12.50, "minPlayers": 2, "maxPlayers": 5, "genre": "Import", "available": false, "publisherId": %d}
+                """.formatted(testPublisher.getId(), testPublisher.getId());
+        String csv = """
+                name,price,minPlayers,maxPlayers,genre,available,publisherId
+                Csv One,15.00,2,4,Import,true,%d
+                Csv Two,17.50,3,6,Import,false,%d
+                """.formatted(testPublisher.getId(), testPublisher.getId());
+
+        mockMvc.perform(post("/api/boardgames/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(0));
+        mockMvc.perform(post("/api/boardgames/import")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(0));
+
+        Boardgame csvTwo = boardgameRepository.findByNameIgnoreCase("Csv Two").orElseThrow();
+        assertThat(csvTwo.getPrice()).isEqualByComparingTo("17.50");
+        assertThat(csvTwo.getMaxPlayers()).isEqualTo(6);
+        assertThat(csvTwo.isAvailable()).isFalse();
+        assertThat(csvTwo.getPublisher().getId()).isEqualTo(testPublisher.getId());
+        assertThat(boardgameRepository.findByNameIgnoreCase("Ndjson Two")).isPresent();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importBoardgames_ShouldBatchInserts() throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            ndjson.append("{\"name\": \"Batched Game ").append(i)
+                    .append("\", \"price\": 9.99, \"minPlayers\": 2, \"maxPlayers\": 4, \"genre\": \"Batch\",")
+                    .append(" \"available\": true, \"publisherId\": ").append(testPublisher.getId()).append("}\n");
+        }
+        entityManager.flush();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean wasEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            mockMvc.perform(post("/api/boardgames/import")
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .content(ndjson.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(200));
+
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(200);
+            assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+        } finally {
+            statistics.setStatisticsEnabled(wasEnabled);
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void importBoardgames_WithUserRole_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(post("/api/boardgames/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isForbidden());
+    }
+
+    private List<Long> listStatementCounts(int expectedSize) throws Exception {
+        BoardgameSearchRequestDTO byPrice = new BoardgameSearchRequestDTO();
+        byPrice.setGenre("Strategy");
+        byPrice.setSort("price");
+        BoardgameSearchRequestDTO paged = new BoardgameSearchRequestDTO();
+        paged.setGenre("Strategy");
+        paged.setPage(0);
+        paged.setSize(50);
+
+        return List.of(
+                statementsFor(get("/api/boardgames").param("genre", "Strategy"), expectedSize),
+                statementsFor(get("/api/boardgames/page").param("genre", "Strategy").param("size", "50"),
+                        expectedSize),
+                statementsFor(get("/api/boardgames/page").param("sort", "name").param("genre", "Strategy")
+                        .param("size", "50"), expectedSize),
+                statementsFor(post("/api/search/boardgames").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(byPrice)), expectedSize),
+                statementsFor(post("/api/search/boardgames").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(paged)), expectedSize));
+    }
+
+    private long statementsFor(MockHttpServletRequestBuilder request, int expectedSize) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean wasEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            List<String> publisherNames = JsonPath.read(body, body.startsWith("[")
+                    ? "$[*].publisher.name"
+                    : "$.items[*].publisher.name");
+            assertThat(publisherNames).hasSize(expectedSize).doesNotContainNull();
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(wasEnabled);
+        }
+    }
+
+    private long allocatedBytesPerCall(Supplier<?> listing) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < 5; i++) {
+            entityManager.clear();
+            listing.get();
+        }
+
+        long total = 0;
+        for (int i = 0; i < 20; i++) {
+            entityManager.clear();
+            long before = threads.getThreadAllocatedBytes(threadId);
+            listing.get();
+            total += threads.getThreadAllocatedBytes(threadId) - before;
+        }
+        return total / 20;
+    }
+
+    private MvcResult exportRequest(MockHttpServletRequestBuilder export) throws Exception {
+        MvcResult result = mockMvc.perform(export)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult();
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private Boardgame saveFacetGame(String name, String genre, String price, int minPlayers, int maxPlayers,
+            boolean available) {
+        Boardgame boardgame = new Boardgame();
+        boardgame.setName(name);
+        boardgame.setPrice(new BigDecimal(price));
+        boardgame.setAvailable(available);
+        boardgame.setMinPlayers(minPlayers);
+        boardgame.setMaxPlayers(maxPlayers);
+        boardgame.setGenre(genre);
+        boardgame.setPublisher(testPublisher);
+        return boardgameRepository.save(boardgame);
+    }
+
+    private Boardgame saveKeysetGame(String name) {
+        Boardgame boardgame = new Boardgame();
+        boardgame.setName(name);
+        boardgame.setPrice(new BigDecimal("19.99"));
+        boardgame.setAvailable(true);
+        boardgame.setMinPlayers(2);
+        boardgame.setMaxPlayers(4);
+        boardgame.setGenre("Keyset");
+        boardgame.setPublisher(testPublisher);
+        return boardgameRepository.save(boardgame);
+    }
 }
@@ -64,6 +64,20 @@ public class ExceptionControllerIT {
                 assertThat(response.getBody().getMessage()).isEqualTo("Validation failed");
         }
 
+        @Test
+        void handleTooManyRequestsException_ShouldReturnTooManyRequestsWithRetryAfter() {
+                TooManyRequestsException ex = new TooManyRequestsException("Slow down");
+
+                ResponseEntity<ExceptionController.ErrorResponse> response = exceptionController
+                                .handleTooManyRequestsException(ex);
+
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                assertThat(response.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+                assertThat(response.getBody()).isNotNull();
+                assertThat(response.getBody().getError()).isEqualTo("Too Many Requests");
+                assertThat(response.getBody().getMessage()).isEqualTo("Slow down");
+        }
+
         @Test
         void handleIllegalArgumentException_ShouldReturnBadRequest() {
                 IllegalArgumentException ex = new IllegalArgumentException("Invalid argument");
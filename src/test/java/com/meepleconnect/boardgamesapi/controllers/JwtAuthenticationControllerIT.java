@@ -4,7 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.meepleconnect.boardgamesapi.exceptions.BadRequestException;
 import com.meepleconnect.boardgamesapi.security.JwtRequest;
 import com.meepleconnect.boardgamesapi.security.JwtResponse;
+import com.meepleconnect.boardgamesapi.models.AuthTokens;
 import com.meepleconnect.boardgamesapi.security.JwtUtil;
+import com.meepleconnect.boardgamesapi.security.RevokedTokenList;
+import com.meepleconnect.boardgamesapi.security.TokenVersionCache;
+import com.meepleconnect.boardgamesapi.services.RefreshTokenService;
+import io.jsonwebtoken.ExpiredJwtException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -16,8 +21,8 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UserDetails;
-import com.meepleconnect.boardgamesapi.entities.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import com.meepleconnect.boardgamesapi.entities.User;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
@@ -32,6 +37,7 @@ import com.meepleconnect.boardgamesapi.entities.Role;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -56,9 +62,18 @@ public class JwtAuthenticationControllerIT {
         @MockBean
         private JwtUtil jwtUtil;
 
+        @MockBean
+        private TokenVersionCache tokenVersionCache;
+
+        @MockBean
+        private RevokedTokenList revokedTokenList;
+
         @MockBean
         private UserDetailsService userDetailsService;
 
+        @MockBean
+        private RefreshTokenService refreshTokenService;
+
         @MockBean
         private com.meepleconnect.boardgamesapi.repositories.UserRepository userRepository;
 
@@ -68,6 +83,9 @@ public class JwtAuthenticationControllerIT {
         @MockBean
         private org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
 
+        @Autowired
+        private org.springframework.context.ApplicationEventPublisher eventPublisher;
+
 
         @Test
         @WithMockUser
@@ -80,15 +98,77 @@ public class JwtAuthenticationControllerIT {
                 when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                                 .thenReturn(new UsernamePasswordAuthenticationToken(userDetails, null,
                                                 new ArrayList<>()));
-                when(userDetailsService.loadUserByUsername("testuser")).thenReturn(userDetails);
-                when(jwtUtil.generateToken("testuser")).thenReturn(expectedToken);
+                User user = new User();
+                user.setUserName("testuser");
+                when(userRepository.findByUserName("testuser")).thenReturn(Optional.of(user));
+                when(refreshTokenService.login(user)).thenReturn(new AuthTokens(expectedToken, "refresh-token"));
 
                 mockMvc.perform(post("/api/auth/login")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(request)))
                                 .andExpect(status().isOk())
                                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                                .andExpect(jsonPath("$.token").value(expectedToken));
+                                .andExpect(jsonPath("$.token").value(expectedToken))
+                                .andExpect(jsonPath("$.refreshToken").value("refresh-token"));
+        }
+
+        @Test
+        void refresh_WithValidRefreshToken_ShouldReturnNewTokenPair() throws Exception {
+                when(refreshTokenService.refresh("old-refresh"))
+                                .thenReturn(new AuthTokens("new.jwt.token", "new-refresh"));
+
+                mockMvc.perform(post("/api/auth/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"refreshToken\": \"old-refresh\"}"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.token").value("new.jwt.token"))
+                                .andExpect(jsonPath("$.refreshToken").value("new-refresh"));
+        }
+
+        @Test
+        void refresh_WithExpiredAccessTokenHeader_ShouldStillReturnNewTokenPair() throws Exception {
+                when(jwtUtil.parseClaims("expired.jwt.token"))
+                                .thenThrow(new ExpiredJwtException(null, null, "JWT expired"));
+                when(refreshTokenService.refresh("old-refresh"))
+                                .thenReturn(new AuthTokens("new.jwt.token", "new-refresh"));
+
+                mockMvc.perform(post("/api/auth/refresh")
+                                .header("Authorization", "Bearer expired.jwt.token")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"refreshToken\": \"old-refresh\"}"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.token").value("new.jwt.token"));
+
+                verify(jwtUtil).parseClaims("expired.jwt.token");
+        }
+
+        @Test
+        void refresh_WithRevokedRefreshToken_ShouldReturnUnauthorized() throws Exception {
+                when(refreshTokenService.refresh("reused"))
+                                .thenThrow(new BadCredentialsException("Refresh token has been revoked"));
+
+                mockMvc.perform(post("/api/auth/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"refreshToken\": \"reused\"}"))
+                                .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        void refresh_WithoutRefreshToken_ShouldReturnBadRequest() throws Exception {
+                mockMvc.perform(post("/api/auth/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{}"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void logout_ShouldRevokeRefreshTokenAndReturnNoContent() throws Exception {
+                mockMvc.perform(post("/api/auth/logout")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"refreshToken\": \"refresh-token\"}"))
+                                .andExpect(status().isNoContent());
+
+                verify(refreshTokenService).logout("refresh-token", null);
         }
 
         @Test
@@ -163,7 +243,8 @@ public class JwtAuthenticationControllerIT {
         @Test
         void login_WithNullAuthenticationRequest_ShouldThrowBadRequestException() {
                 JwtAuthenticationController controller = new JwtAuthenticationController(
-                        authenticationManager, jwtUtil, userDetailsService, userRepository, roleRepository, passwordEncoder);
+                        authenticationManager, refreshTokenService, userRepository, roleRepository, passwordEncoder,
+                        eventPublisher);
 
 
                 assertThatThrownBy(() -> controller.createAuthenticationToken(null))
@@ -2,6 +2,9 @@ package com.meepleconnect.boardgamesapi.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.meepleconnect.boardgamesapi.models.Publisher;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +16,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -28,6 +32,9 @@ public class PublisherControllerIT {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -43,6 +50,46 @@ public class PublisherControllerIT {
                 .andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(0))));
     }
 
+    @Test
+    void getAllPublishers_WithMatchingEtag_ShouldReturnNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/publishers"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean wasEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            mockMvc.perform(get("/api/publishers")
+                    .header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+        } finally {
+            statistics.setStatisticsEnabled(wasEnabled);
+        }
+
+        Publisher newPublisher = new Publisher();
+        newPublisher.setName("Etag Publisher " + System.currentTimeMillis());
+        newPublisher.setCountryOfOrigin("Etag Country");
+        newPublisher.setFounded(2015);
+        newPublisher.setIndie(true);
+
+        mockMvc.perform(post("/api/publishers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newPublisher)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/publishers")
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$[*].name", hasItem(newPublisher.getName())));
+    }
+
     @Test
     void getPublisherById_ShouldReturnPublisher() throws Exception {
         Publisher newPublisher = new Publisher();
@@ -144,4 +191,110 @@ public class PublisherControllerIT {
         mockMvc.perform(delete("/api/publishers/" + publisherId))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    void getPublisherById_RepeatedRead_ShouldIssueNoSql() throws Exception {
+        Publisher newPublisher = new Publisher();
+        newPublisher.setName("Cached Publisher " + System.currentTimeMillis());
+        newPublisher.setCountryOfOrigin("Cache Country");
+        newPublisher.setFounded(2010);
+        newPublisher.setIndie(true);
+
+        String location = mockMvc.perform(post("/api/publishers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newPublisher)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader("Location");
+
+        String publisherId = location.substring(location.lastIndexOf("/") + 1);
+        mockMvc.perform(get("/api/publishers/" + publisherId))
+                .andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean wasEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            for (int i = 0; i < 3; i++) {
+                mockMvc.perform(get("/api/publishers/" + publisherId))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.name").value(newPublisher.getName()));
+            }
+
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+            assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(3);
+        } finally {
+            statistics.setStatisticsEnabled(wasEnabled);
+        }
+
+        Publisher updatedPublisher = new Publisher();
+        updatedPublisher.setName(newPublisher.getName() + " Renamed");
+        updatedPublisher.setCountryOfOrigin("Cache Country");
+        updatedPublisher.setFounded(2010);
+        updatedPublisher.setIndie(true);
+
+        mockMvc.perform(put("/api/publishers/" + publisherId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedPublisher)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/publishers/" + publisherId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(updatedPublisher.getName()));
+
+        mockMvc.perform(delete("/api/publishers/" + publisherId))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/publishers/" + publisherId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getPublishersByCountry_RepeatedRead_ShouldUseQueryCache() throws Exception {
+        String country = "Query Cache " + System.currentTimeMillis();
+        Publisher newPublisher = new Publisher();
+        newPublisher.setName("Query Cached Publisher " + System.currentTimeMillis());
+        newPublisher.setCountryOfOrigin(country);
+        newPublisher.setFounded(2012);
+        newPublisher.setIndie(false);
+
+        mockMvc.perform(post("/api/publishers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newPublisher)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/publishers/country/" + country))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean wasEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            mockMvc.perform(get("/api/publishers/country/" + country))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)));
+
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+            assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        } finally {
+            statistics.setStatisticsEnabled(wasEnabled);
+        }
+
+        Publisher secondPublisher = new Publisher();
+        secondPublisher.setName("Second " + newPublisher.getName());
+        secondPublisher.setCountryOfOrigin(country);
+        secondPublisher.setFounded(2014);
+        secondPublisher.setIndie(true);
+
+        mockMvc.perform(post("/api/publishers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(secondPublisher)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/publishers/country/" + country))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
 }
\ No newline at end of file
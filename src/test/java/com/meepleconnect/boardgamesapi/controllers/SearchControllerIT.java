@@ -7,6 +7,7 @@ import com.meepleconnect.boardgamesapi.models.Publisher;
 import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
 import com.meepleconnect.boardgamesapi.repositories.PublisherRepository;
 import com.meepleconnect.boardgamesapi.repositories.UserRepository;
+import com.meepleconnect.boardgamesapi.services.BoardgameService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,6 +46,9 @@ public class SearchControllerIT {
     @Autowired
     private PublisherRepository publisherRepository;
 
+    @Autowired
+    private BoardgameService boardgameService;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -343,4 +347,106 @@ public class SearchControllerIT {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$", hasSize(0)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void advancedSearch_WithMisspelledName_ShouldRankClosestNameFirst() throws Exception {
+        addThroughServiceIfMissing("Twilight Imperium");
+        addThroughServiceIfMissing("Twilight Struggle");
+
+        Map<String, Object> advancedCriteria = new HashMap<>();
+        advancedCriteria.put("name", "twilite imperium");
+
+        mockMvc.perform(post("/api/search/boardgames/advanced")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(advancedCriteria)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(1))))
+                .andExpect(jsonPath("$[0].name").value("Twilight Imperium"));
+    }
+
+    @Test
+    void advancedSearch_WithNamePrefix_ShouldReturnAllPrefixMatches() throws Exception {
+        addThroughServiceIfMissing("Twilight Imperium");
+        addThroughServiceIfMissing("Twilight Struggle");
+
+        Map<String, Object> advancedCriteria = new HashMap<>();
+        advancedCriteria.put("name", "twilight");
+
+        mockMvc.perform(post("/api/search/boardgames/advanced")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(advancedCriteria)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].name", containsInAnyOrder("Twilight Imperium", "Twilight Struggle")));
+    }
+
+    @Test
+    void searchBoardgames_WithIntegerMaxPrice_ShouldReturnResults() throws Exception {
+        Map<String, Object> searchCriteria = new HashMap<>();
+        searchCriteria.put("maxPrice", 30);
+
+        mockMvc.perform(post("/api/search/boardgames")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(searchCriteria)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(1))));
+    }
+
+    @Test
+    void advancedSearch_WithSortAndPage_ShouldReturnRequestedPage() throws Exception {
+        addThroughServiceIfMissing("Twilight Imperium");
+        addThroughServiceIfMissing("Twilight Struggle");
+
+        Map<String, Object> advancedCriteria = new HashMap<>();
+        advancedCriteria.put("genre", "Wargame");
+        advancedCriteria.put("sort", "name");
+        advancedCriteria.put("direction", "desc");
+        advancedCriteria.put("page", 0);
+        advancedCriteria.put("size", 1);
+
+        mockMvc.perform(post("/api/search/boardgames/advanced")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(advancedCriteria)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("Twilight Struggle"));
+    }
+
+    @Test
+    void advancedSearch_WithInvalidSort_ShouldReturnBadRequest() throws Exception {
+        Map<String, Object> advancedCriteria = new HashMap<>();
+        advancedCriteria.put("sort", "publisher");
+
+        mockMvc.perform(post("/api/search/boardgames/advanced")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(advancedCriteria)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchBoardgames_WithNegativePrice_ShouldReturnBadRequest() throws Exception {
+        Map<String, Object> searchCriteria = new HashMap<>();
+        searchCriteria.put("maxPrice", -1);
+
+        mockMvc.perform(post("/api/search/boardgames")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(searchCriteria)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void addThroughServiceIfMissing(String name) {
+        if (boardgameRepository.findByNameIgnoreCase(name).isPresent()) {
+            return;
+        }
+
+        Boardgame boardgame = new Boardgame();
+        boardgame.setName(name);
+        boardgame.setPrice(new java.math.BigDecimal("29.99"));
+        boardgame.setMinPlayers(2);
+        boardgame.setMaxPlayers(4);
+        boardgame.setGenre("Wargame");
+        boardgame.setAvailable(true);
+        boardgame.setPublisher(publisherRepository.findByName("Test Publisher"));
+        boardgameService.addBoardgame(boardgame);
+    }
+}
@@ -1,5 +1,20 @@
 package com.meepleconnect.boardgamesapi.controllers;
 
+import com.meepleconnect.boardgamesapi.entities.User;
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.Publisher;
+import com.meepleconnect.boardgamesapi.models.Reservation;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import com.meepleconnect.boardgamesapi.repositories.PublisherRepository;
+import com.meepleconnect.boardgamesapi.repositories.ReservationDailyStatsRepository;
+import com.meepleconnect.boardgamesapi.repositories.ReservationRepository;
+import com.meepleconnect.boardgamesapi.repositories.UserRepository;
+import com.meepleconnect.boardgamesapi.services.BoardgameService;
+import com.meepleconnect.boardgamesapi.services.ReservationService;
+import com.meepleconnect.boardgamesapi.statistics.DashboardCounters;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,8 +24,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -23,6 +43,33 @@ public class StatisticsControllerIT {
     @Autowired
     private WebApplicationContext webApplicationContext;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BoardgameRepository boardgameRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PublisherRepository publisherRepository;
+
+    @Autowired
+    private BoardgameService boardgameService;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationDailyStatsRepository reservationDailyStatsRepository;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -58,6 +105,179 @@ public class StatisticsControllerIT {
                 .andExpect(jsonPath("$.activeReservations").value(greaterThanOrEqualTo(0)));
     }
 
+    @Test
+    void getDashboardStatistics_AfterReconcile_ShouldMatchRepositoryCounts() throws Exception {
+        dashboardCounters.reconcile();
+
+        mockMvc.perform(get("/api/statistics/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalBoardgames").value(boardgameRepository.count()))
+                .andExpect(jsonPath("$.availableBoardgames").value(boardgameRepository.countByAvailable(true)))
+                .andExpect(jsonPath("$.totalReservations").value(reservationRepository.count()))
+                .andExpect(jsonPath("$.activeReservations")
+                        .value(reservationRepository.countByReservationDateAfter(LocalDate.now())))
+                .andExpect(jsonPath("$.totalUsers").value(userRepository.count()));
+    }
+
+    @Test
+    void reconcile_ShouldExecuteSingleStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean wasEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            dashboardCounters.reconcile();
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        } finally {
+            statistics.setStatisticsEnabled(wasEnabled);
+        }
+    }
+
+    @Test
+    void getDashboardStatistics_ShouldBeServedFromCountersWithoutSql() throws Exception {
+        dashboardCounters.reconcile();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean wasEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            mockMvc.perform(get("/api/statistics/dashboard"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.reconciledAt").isString())
+                    .andExpect(jsonPath("$.stalenessSeconds").value(greaterThanOrEqualTo(0)));
+
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+        } finally {
+            statistics.setStatisticsEnabled(wasEnabled);
+        }
+    }
+
+    @Test
+    void getDashboardStatistics_ShouldFollowServiceWritesAfterCommit() throws Exception {
+        dashboardCounters.reconcile();
+        long totalBefore = dashboardCounters.current().totalBoardgames();
+        long availableBefore = dashboardCounters.current().availableBoardgames();
+
+        Publisher publisher = new Publisher();
+        publisher.setName("Dashboard Publisher");
+        publisher.setCountryOfOrigin("Netherlands");
+        publisher.setFounded(2021);
+        publisher.setIndie(true);
+        publisher = publisherRepository.save(publisher);
+
+        Boardgame boardgame = new Boardgame("Dashboard Counter Game", new BigDecimal("29.99"), true, 2, 4,
+                "Dashboard", publisher);
+        boardgame = boardgameService.addBoardgame(boardgame);
+
+        mockMvc.perform(get("/api/statistics/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalBoardgames").value(totalBefore + 1))
+                .andExpect(jsonPath("$.availableBoardgames").value(availableBefore + 1));
+
+        boardgameService.deleteBoardgame(boardgame.getId());
+        publisherRepository.delete(publisher);
+
+        mockMvc.perform(get("/api/statistics/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalBoardgames").value(totalBefore))
+                .andExpect(jsonPath("$.availableBoardgames").value(availableBefore));
+    }
+
+    @Test
+    void reservationRollup_ShouldFollowServiceWritesAfterCommit() {
+        Publisher publisher = new Publisher();
+        publisher.setName("Rollup Publisher");
+        publisher.setCountryOfOrigin("Netherlands");
+        publisher.setFounded(2021);
+        publisher.setIndie(true);
+        publisher = publisherRepository.save(publisher);
+        Boardgame boardgame = boardgameRepository.save(new Boardgame("Rollup Game", new BigDecimal("29.99"), true,
+                2, 4, "Rollup", publisher));
+        User user = new User();
+        user.setUserName("rollup-user");
+        user.setPassword("$2a$10$bJxwWc3A3DBzke7Gnb/MZ.lLXmvOIE/DFAd6QUnBvWhn7c7D1zY4C");
+        user = userRepository.save(user);
+        LocalDate date = LocalDate.now().plusDays(10);
+
+        try {
+            Reservation first = reservationService.createReservation(user.getId(), boardgame.getId(), date, 3, null);
+            Reservation second = reservationService.createReservation(user.getId(), boardgame.getId(), date, 2, null);
+
+            assertThat(reservationDailyStatsRepository.findAll())
+                    .filteredOn(row -> row.getBoardgameId().equals(boardgame.getId()))
+                    .singleElement()
+                    .satisfies(row -> {
+                        assertThat(row.getStatDate()).isEqualTo(date);
+                        assertThat(row.getGenre()).isEqualTo("Rollup");
+                        assertThat(row.getReservationCount()).isEqualTo(2);
+                        assertThat(row.getParticipantCount()).isEqualTo(5);
+                    });
+
+            reservationService.cancelReservation(first.getId());
+            reservationService.cancelReservation(second.getId());
+
+            assertThat(reservationDailyStatsRepository.findAll())
+                    .noneMatch(row -> row.getBoardgameId().equals(boardgame.getId()));
+        } finally {
+            reservationRepository.deleteAll(reservationRepository.findByBoardgameId(boardgame.getId()));
+            boardgameRepository.delete(boardgame);
+            userRepository.delete(user);
+            publisherRepository.delete(publisher);
+        }
+    }
+
+    @Test
+    void getPopularBoardgames_ShouldRankReservedGamesWithoutSql() throws Exception {
+        Publisher publisher = new Publisher();
+        publisher.setName("Popularity Publisher");
+        publisher.setCountryOfOrigin("Netherlands");
+        publisher.setFounded(2021);
+        publisher.setIndie(true);
+        publisher = publisherRepository.save(publisher);
+        Boardgame boardgame = boardgameRepository.save(new Boardgame("Popular Game", new BigDecimal("29.99"), true,
+                2, 4, "Popularity", publisher));
+        User user = new User();
+        user.setUserName("popularity-user");
+        user.setPassword("$2a$10$bJxwWc3A3DBzke7Gnb/MZ.lLXmvOIE/DFAd6QUnBvWhn7c7D1zY4C");
+        user = userRepository.save(user);
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                reservationService.createReservation(user.getId(), boardgame.getId(), LocalDate.now().plusDays(5),
+                        2, null);
+            }
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            boolean wasEnabled = statistics.isStatisticsEnabled();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+            try {
+                mockMvc.perform(get("/api/statistics/boardgames/popular"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.popularGames[0].id").value(boardgame.getId()))
+                        .andExpect(jsonPath("$.popularGames[0].name").value("Popular Game"))
+                        .andExpect(jsonPath("$.popularGames[0].genre").value("Popularity"))
+                        .andExpect(jsonPath("$.popularGames[0].popularityScore").value(greaterThan(2.9)));
+
+                assertThat(statistics.getPrepareStatementCount()).isZero();
+            } finally {
+                statistics.setStatisticsEnabled(wasEnabled);
+            }
+        } finally {
+            for (Reservation reservation : reservationRepository.findByBoardgameId(boardgame.getId())) {
+                reservationService.cancelReservation(reservation.getId());
+            }
+            boardgameRepository.delete(boardgame);
+            userRepository.delete(user);
+            publisherRepository.delete(publisher);
+        }
+
+        mockMvc.perform(get("/api/statistics/boardgames/popular"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.popularGames[*].id", not(hasItem(boardgame.getId().intValue()))));
+    }
+
     @Test
     void getPopularBoardgames_ShouldReturnPopularGamesList() throws Exception {
         mockMvc.perform(get("/api/statistics/boardgames/popular"))
@@ -188,6 +408,70 @@ public class StatisticsControllerIT {
                 .andExpect(jsonPath("$.totalParticipants").value(0));
     }
 
+    @Test
+    @Transactional
+    void getMonthlyReservations_ShouldSumReservationsInsideMonthRange() throws Exception {
+        int year = LocalDate.now().getYear() + 50;
+        saveYearReservations(year);
+
+        mockMvc.perform(get("/api/statistics/reservations/monthly")
+                .param("year", String.valueOf(year))
+                .param("month", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalReservations").value(2))
+                .andExpect(jsonPath("$.totalParticipants").value(7));
+    }
+
+    @Test
+    @Transactional
+    void getYearlyReservations_ShouldReturnTwelveMonthBuckets() throws Exception {
+        int year = LocalDate.now().getYear() + 50;
+        saveYearReservations(year);
+
+        mockMvc.perform(get("/api/statistics/reservations/yearly")
+                .param("year", String.valueOf(year)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.year").value(year))
+                .andExpect(jsonPath("$.months", hasSize(12)))
+                .andExpect(jsonPath("$.months[0].month").value(1))
+                .andExpect(jsonPath("$.months[0].totalReservations").value(0))
+                .andExpect(jsonPath("$.months[1].totalReservations").value(1))
+                .andExpect(jsonPath("$.months[2].totalReservations").value(2))
+                .andExpect(jsonPath("$.months[2].totalParticipants").value(7))
+                .andExpect(jsonPath("$.months[11].totalReservations").value(1))
+                .andExpect(jsonPath("$.months[11].totalParticipants").value(4))
+                .andExpect(jsonPath("$.totalReservations").value(4))
+                .andExpect(jsonPath("$.totalParticipants").value(13));
+    }
+
+    @Test
+    @Transactional
+    void getYearlyReservations_ShouldExecuteSingleStatement() throws Exception {
+        int year = LocalDate.now().getYear() + 50;
+        saveYearReservations(year);
+        reservationRepository.flush();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean wasEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            mockMvc.perform(get("/api/statistics/reservations/yearly")
+                    .param("year", String.valueOf(year)))
+                    .andExpect(status().isOk());
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        } finally {
+            statistics.setStatisticsEnabled(wasEnabled);
+        }
+    }
+
+    @Test
+    void getYearlyReservations_WithMissingYear_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/statistics/reservations/yearly"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getMonthlyReservations_WithMissingYear_ShouldReturnBadRequest() throws Exception {
         int currentMonth = java.time.LocalDate.now().getMonthValue();
@@ -225,4 +509,31 @@ public class StatisticsControllerIT {
                 .param("month", "invalid"))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    private void saveYearReservations(int year) {
+        Publisher publisher = new Publisher();
+        publisher.setName("Monthly Publisher");
+        publisher.setCountryOfOrigin("Netherlands");
+        publisher.setFounded(2021);
+        publisher.setIndie(true);
+        publisher = publisherRepository.save(publisher);
+
+        Boardgame boardgame = boardgameRepository.save(new Boardgame("Monthly Statistics Game",
+                new BigDecimal("29.99"), true, 2, 4, "Statistics", publisher));
+
+        User user = new User();
+        user.setUserName("monthly-statistics-user");
+        user.setPassword("$2a$10$bJxwWc3A3DBzke7Gnb/MZ.lLXmvOIE/DFAd6QUnBvWhn7c7D1zY4C");
+        user.setEnabled(true);
+        user.setExpired(false);
+        user.setLocked(false);
+        user.setAreCredentialsExpired(false);
+        user = userRepository.save(user);
+
+        reservationRepository.save(new Reservation(user, boardgame, LocalDate.of(year, 2, 28), 2, null));
+        reservationRepository.save(new Reservation(user, boardgame, LocalDate.of(year, 3, 1), 3, null));
+        reservationRepository.save(new Reservation(user, boardgame, LocalDate.of(year, 3, 31), 4, null));
+        reservationRepository.save(new Reservation(user, boardgame, LocalDate.of(year + 1, 1, 1), 5, null));
+        reservationRepository.save(new Reservation(user, boardgame, LocalDate.of(year, 12, 31), 4, null));
+    }
+}
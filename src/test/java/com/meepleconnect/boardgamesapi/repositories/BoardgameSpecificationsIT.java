@@ -0,0 +1,111 @@
+package com.meepleconnect.boardgamesapi.repositories;
+
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.Publisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.meepleconnect.boardgamesapi.repositories.BoardgameSpecifications.idIn;
+import static com.meepleconnect.boardgamesapi.repositories.BoardgameSpecifications.withFilters;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class BoardgameSpecificationsIT {
+
+    @Autowired
+    private BoardgameRepository boardgameRepository;
+
+    @Autowired
+    private PublisherRepository publisherRepository;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Publisher publisher = new Publisher();
+        publisher.setName("Specification Publisher");
+        publisher.setCountryOfOrigin("Netherlands");
+        publisher.setFounded(2020);
+        publisher.setIndie(true);
+        publisher = publisherRepository.save(publisher);
+
+        save("Catan", true, 3, 4, "Strategy", publisher);
+        save("Twilight Imperium", true, 3, 6, "STRATEGY", publisher);
+        save("Ticket to Ride", false, 2, 5, "Family", publisher);
+        save("Love Letter", true, 2, 4, "party", publisher);
+        save("Gloomhaven", false, 1, 4, "Strategy", publisher);
+    }
+
+    @Test
+    void withFilters_WithoutFilters_ShouldReturnAllGames() {
+        assertThat(find(withFilters(null, null, null, null)))
+                .containsExactlyInAnyOrder("Catan", "Twilight Imperium", "Ticket to Ride", "Love Letter",
+                        "Gloomhaven");
+    }
+
+    @Test
+    void withFilters_WithGenre_ShouldIgnoreCaseOfQueryAndStoredValue() {
+        assertThat(find(withFilters("strategy", null, null, null)))
+                .containsExactlyInAnyOrder("Catan", "Twilight Imperium", "Gloomhaven");
+        assertThat(find(withFilters("PARTY", null, null, null))).containsExactly("Love Letter");
+        assertThat(find(withFilters("Strat", null, null, null))).isEmpty();
+    }
+
+    @Test
+    void withFilters_WithAvailable_ShouldMatchAvailability() {
+        assertThat(find(withFilters(null, true, null, null)))
+                .containsExactlyInAnyOrder("Catan", "Twilight Imperium", "Love Letter");
+        assertThat(find(withFilters(null, false, null, null)))
+                .containsExactlyInAnyOrder("Ticket to Ride", "Gloomhaven");
+    }
+
+    @Test
+    void withFilters_WithMinPlayers_ShouldReturnGamesNeedingAtLeastThatMany() {
+        assertThat(find(withFilters(null, null, 3, null)))
+                .containsExactlyInAnyOrder("Catan", "Twilight Imperium");
+        assertThat(find(withFilters(null, null, 2, null)))
+                .containsExactlyInAnyOrder("Catan", "Twilight Imperium", "Ticket to Ride", "Love Letter");
+    }
+
+    @Test
+    void withFilters_WithMaxPlayers_ShouldReturnGamesAllowingAtMostThatMany() {
+        assertThat(find(withFilters(null, null, null, 4)))
+                .containsExactlyInAnyOrder("Catan", "Love Letter", "Gloomhaven");
+        assertThat(find(withFilters(null, null, null, 6)))
+                .containsExactlyInAnyOrder("Catan", "Twilight Imperium", "Ticket to Ride", "Love Letter",
+                        "Gloomhaven");
+    }
+
+    @Test
+    void withFilters_WithCombinedFilters_ShouldMatchAllConditions() {
+        assertThat(find(withFilters("strategy", true, null, 4))).containsExactly("Catan");
+        assertThat(find(withFilters("Strategy", false, null, 4))).containsExactly("Gloomhaven");
+        assertThat(find(withFilters(null, true, 2, 4)))
+                .containsExactlyInAnyOrder("Catan", "Love Letter");
+        assertThat(find(withFilters("family", true, 2, 5))).isEmpty();
+    }
+
+    private void save(String name, boolean available, int minPlayers, int maxPlayers, String genre,
+            Publisher publisher) {
+        Boardgame boardgame = new Boardgame(name, new BigDecimal("29.99"), available, minPlayers, maxPlayers, genre,
+                publisher);
+        ids.add(boardgameRepository.save(boardgame).getId());
+    }
+
+    private List<String> find(Specification<Boardgame> specification) {
+        return boardgameRepository.findAll(specification.and(idIn(ids))).stream()
+                .map(Boardgame::getName)
+                .toList();
+    }
+}
@@ -0,0 +1,153 @@
+package com.meepleconnect.boardgamesapi.search;
+
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameNameView;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BoardgameNameIndexTest {
+
+    @Mock
+    private BoardgameRepository boardgameRepository;
+
+    @InjectMocks
+    private BoardgameNameIndex boardgameNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(boardgameRepository.findAllProjectedBy()).thenReturn(List.of(
+                nameView(1L, "Catan"),
+                nameView(2L, "Catan: Seafarers"),
+                nameView(3L, "Ticket to Ride"),
+                nameView(4L, "Pandemic"),
+                nameView(5L, "Pandemic Legacy")));
+        boardgameNameIndex.rebuild();
+    }
+
+    @Test
+    void search_WithExactName_ShouldRankExactMatchFirst() {
+        List<Long> result = boardgameNameIndex.search("catan");
+
+        assertThat(result).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void search_WithPrefix_ShouldRankPrefixMatchesBeforeSubstringMatches() {
+        List<Long> result = boardgameNameIndex.search("pan");
+
+        assertThat(result).startsWith(4L, 5L);
+    }
+
+    @Test
+    void search_WithSubstring_ShouldFindNameContainingQuery() {
+        List<Long> result = boardgameNameIndex.search("to ride");
+
+        assertThat(result).containsExactly(3L);
+    }
+
+    @Test
+    void search_WithTypo_ShouldReturnSimilarNames() {
+        List<Long> result = boardgameNameIndex.search("Pandemik");
+
+        assertThat(result).contains(4L);
+        assertThat(result).doesNotContain(1L, 3L);
+    }
+
+    @Test
+    void search_WithShortQuery_ShouldMatchSubstrings() {
+        List<Long> result = boardgameNameIndex.search("ic");
+
+        assertThat(result).containsExactlyInAnyOrder(3L, 4L, 5L);
+    }
+
+    @Test
+    void search_WithBlankQuery_ShouldReturnNothing() {
+        assertThat(boardgameNameIndex.search("   ")).isEmpty();
+        assertThat(boardgameNameIndex.search(null)).isEmpty();
+    }
+
+    @Test
+    void onBoardgameChanged_WhenCreated_ShouldMakeGameSearchable() {
+        Boardgame boardgame = new Boardgame();
+        boardgame.setId(6L);
+        boardgame.setName("Azul");
+
+        boardgameNameIndex.onBoardgameChanged(BoardgameChangedEvent.created(boardgame));
+
+        assertThat(boardgameNameIndex.search("azul")).containsExactly(6L);
+        assertThat(boardgameNameIndex.size()).isEqualTo(6);
+    }
+
+    @Test
+    void onBoardgameChanged_WhenRenamed_ShouldReplaceOldName() {
+        Boardgame boardgame = new Boardgame();
+        boardgame.setId(3L);
+        boardgame.setName("Ticket to Ride: Europe");
+
+        boardgameNameIndex.onBoardgameChanged(BoardgameChangedEvent.updated(boardgame, true));
+
+        assertThat(boardgameNameIndex.search("europe")).containsExactly(3L);
+        assertThat(boardgameNameIndex.size()).isEqualTo(5);
+    }
+
+    @Test
+    void onBoardgameChanged_WhenDeleted_ShouldRemoveGame() {
+        boardgameNameIndex.onBoardgameChanged(BoardgameChangedEvent.deleted(1L, true));
+
+        assertThat(boardgameNameIndex.search("catan")).containsExactly(2L);
+        assertThat(boardgameNameIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    void rebuild_ShouldKeepChangesCommittedWhileReading() {
+        Boardgame boardgame = new Boardgame();
+        boardgame.setId(6L);
+        boardgame.setName("Azul");
+        when(boardgameRepository.findAllProjectedBy()).thenAnswer(invocation -> {
+            boardgameNameIndex.onBoardgameChanged(BoardgameChangedEvent.created(boardgame));
+            return List.of(nameView(1L, "Catan"));
+        });
+
+        boardgameNameIndex.rebuild();
+
+        assertThat(boardgameNameIndex.search("azul")).containsExactly(6L);
+        assertThat(boardgameNameIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    void search_BeforeFirstRebuild_ShouldLoadOnce() {
+        BoardgameNameIndex cold = new BoardgameNameIndex(boardgameRepository);
+
+        assertThat(cold.search("catan")).containsExactly(1L, 2L);
+        assertThat(cold.search("pandemic")).containsExactly(4L, 5L);
+        verify(boardgameRepository, times(2)).findAllProjectedBy();
+    }
+
+    private static BoardgameNameView nameView(Long id, String name) {
+        return new BoardgameNameView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package com.meepleconnect.boardgamesapi.search;
+
+import com.meepleconnect.boardgamesapi.models.BoardgameSearchCriteria;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BoardgameNameMatcherTest {
+
+    @Mock
+    private BoardgameNameIndex boardgameNameIndex;
+
+    @Mock
+    private CatalogSnapshot catalogSnapshot;
+
+    @Mock
+    private BoardgameRepository boardgameRepository;
+
+    @Test
+    void findMatchingIds_WithoutNameMatches_ShouldNotQuery() {
+        when(boardgameNameIndex.search("unknown")).thenReturn(List.of());
+
+        assertThat(matcher(10).findMatchingIds(criteria("unknown"))).isEmpty();
+        verifyNoInteractions(catalogSnapshot, boardgameRepository);
+    }
+
+    @Test
+    void findMatchingIds_WithReadySnapshot_ShouldCapFilteredMatches() {
+        BoardgameSearchCriteria criteria = criteria("game");
+        when(boardgameNameIndex.search("game")).thenReturn(List.of(3L, 1L, 2L));
+        when(catalogSnapshot.isReady()).thenReturn(true);
+        when(catalogSnapshot.selectRanked(criteria, List.of(3L, 1L, 2L), 2)).thenReturn(new long[] {3L, 2L});
+
+        assertThat(matcher(2).findMatchingIds(criteria)).containsExactly(3L, 2L);
+        verify(boardgameRepository, never()).findIds(any());
+    }
+
+    @Test
+    void findMatchingIds_WithoutSnapshot_ShouldFilterBeforeApplyingCap() {
+        List<Long> rankedIds = LongStream.rangeClosed(1, BoardgameNameMatcher.ID_CHUNK_SIZE + 10).boxed().toList();
+        when(boardgameNameIndex.search("game")).thenReturn(rankedIds);
+        when(boardgameRepository.findIds(any(Specification.class)))
+                .thenReturn(List.of(7L))
+                .thenReturn(List.of((long) BoardgameNameMatcher.ID_CHUNK_SIZE + 5));
+
+        List<Long> result = matcher(2).findMatchingIds(criteria("game"));
+
+        assertThat(result).containsExactly(7L, (long) BoardgameNameMatcher.ID_CHUNK_SIZE + 5);
+        verify(boardgameRepository, times(2)).findIds(any(Specification.class));
+    }
+
+    @Test
+    void findMatchingIds_WithoutSnapshot_ShouldStopOnceCapIsReached() {
+        List<Long> rankedIds = LongStream.rangeClosed(1, BoardgameNameMatcher.ID_CHUNK_SIZE * 3L).boxed().toList();
+        when(boardgameNameIndex.search("game")).thenReturn(rankedIds);
+        when(boardgameRepository.findIds(any(Specification.class))).thenReturn(List.of(4L, 2L, 9L));
+
+        List<Long> result = matcher(2).findMatchingIds(criteria("game"));
+
+        assertThat(result).containsExactly(2L, 4L);
+        verify(boardgameRepository, times(1)).findIds(any(Specification.class));
+    }
+
+    private BoardgameNameMatcher matcher(int maxNameMatches) {
+        return new BoardgameNameMatcher(boardgameNameIndex, catalogSnapshot, boardgameRepository, maxNameMatches);
+    }
+
+    private static BoardgameSearchCriteria criteria(String name) {
+        return new BoardgameSearchCriteria(name, "Strategy", null, null, null, null, null, null, false, null, null);
+    }
+}
@@ -0,0 +1,89 @@
+package com.meepleconnect.boardgamesapi.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CatalogResponseCacheTest {
+
+    private CatalogResponseCache catalogResponseCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        catalogResponseCache = new CatalogResponseCache(new ObjectMapper(), DataSize.ofMegabytes(1));
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_WithUnchangedCatalog_ShouldServeSerializedBodyFromCache() {
+        String signature = CatalogResponseCache.signature("boardgames", "Strategy", null);
+
+        CatalogResponseCache.CachedResponse first = catalogResponseCache.get(signature, this::load);
+        CatalogResponseCache.CachedResponse second = catalogResponseCache.get(signature, this::load);
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.body(), StandardCharsets.UTF_8)).isEqualTo("[{\"name\":\"Catan\"}]");
+        assertThat(first.etag()).isEqualTo(catalogResponseCache.etag(signature));
+    }
+
+    @Test
+    void etag_ShouldDifferPerFilterSignature() {
+        String strategy = CatalogResponseCache.signature("boardgames", "Strategy", null);
+        String family = CatalogResponseCache.signature("boardgames", "Family", null);
+
+        assertThat(catalogResponseCache.etag(strategy)).isNotEqualTo(catalogResponseCache.etag(family));
+        assertThat(catalogResponseCache.etag(strategy)).isEqualTo(catalogResponseCache.etag(strategy));
+    }
+
+    @Test
+    void invalidate_ShouldChangeEtagAndReloadBody() {
+        String signature = CatalogResponseCache.signature("publishers");
+        CatalogResponseCache.CachedResponse before = catalogResponseCache.get(signature, this::load);
+
+        catalogResponseCache.invalidate();
+        CatalogResponseCache.CachedResponse after = catalogResponseCache.get(signature, this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(catalogResponseCache.etag(signature)).isEqualTo(after.etag());
+    }
+
+    @Test
+    void invalidate_InsideTransaction_ShouldBumpVersionAgainAfterCompletion() {
+        String signature = CatalogResponseCache.signature("boardgames");
+        TransactionSynchronizationManager.initSynchronization();
+
+        catalogResponseCache.invalidate();
+        String duringTransaction = catalogResponseCache.etag(signature);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        assertThat(catalogResponseCache.etag(signature)).isNotEqualTo(duringTransaction);
+    }
+
+    private Object load() {
+        loads.incrementAndGet();
+        return List.of(Map.of("name", "Catan"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.meepleconnect.boardgamesapi.search;
+
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameSearchCriteria;
+import com.meepleconnect.boardgamesapi.models.Publisher;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import com.meepleconnect.boardgamesapi.repositories.PublisherRepository;
+import com.meepleconnect.boardgamesapi.services.BoardgameService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class CatalogSnapshotIT {
+
+    private static final String GENRE = "Snapshot Order";
+
+    @Autowired
+    private BoardgameRepository boardgameRepository;
+
+    @Autowired
+    private PublisherRepository publisherRepository;
+
+    @Autowired
+    private BoardgameService boardgameService;
+
+    private CatalogSnapshot catalogSnapshot;
+
+    @BeforeEach
+    void setUp() {
+        Publisher publisher = new Publisher();
+        publisher.setName("Snapshot Order Publisher");
+        publisher.setCountryOfOrigin("Netherlands");
+        publisher.setFounded(2020);
+        publisher.setIndie(true);
+        publisher = publisherRepository.save(publisher);
+
+        for (String name : List.of("Zombicide", "azul", "Catan", "catan junior", "Ticket to Ride", "carcassonne",
+                "Azul")) {
+            boardgameRepository.save(new Boardgame(name, new BigDecimal("29.99"), true, 2, 4, GENRE, publisher));
+        }
+
+        catalogSnapshot = new CatalogSnapshot(boardgameRepository, true);
+        catalogSnapshot.rebuild();
+    }
+
+    @Test
+    void select_SortedByName_ShouldMatchDatabaseOrder() {
+        BoardgameSearchCriteria criteria = byName(false);
+
+        List<String> database = boardgameService.searchBoardgames(criteria).stream()
+                .map(Boardgame::getName)
+                .toList();
+
+        assertThat(database).containsExactly("azul", "Azul", "carcassonne", "Catan", "catan junior",
+                "Ticket to Ride", "Zombicide");
+        assertThat(snapshotIds(criteria)).containsExactlyElementsOf(databaseIds(criteria));
+    }
+
+    @Test
+    void select_SortedByNameDescending_ShouldMatchDatabaseOrder() {
+        BoardgameSearchCriteria criteria = byName(true);
+
+        assertThat(snapshotIds(criteria)).containsExactlyElementsOf(databaseIds(criteria));
+    }
+
+    private List<Long> snapshotIds(BoardgameSearchCriteria criteria) {
+        return Arrays.stream(catalogSnapshot.select(criteria)).boxed().toList();
+    }
+
+    private List<Long> databaseIds(BoardgameSearchCriteria criteria) {
+        return boardgameService.searchBoardgames(criteria).stream()
+                .map(Boardgame::getId)
+                .toList();
+    }
+
+    private static BoardgameSearchCriteria byName(boolean descending) {
+        return new BoardgameSearchCriteria(null, GENRE, null, null, null, null, null, "name", descending, null,
+                null);
+    }
+}
@@ -0,0 +1,268 @@
+package com.meepleconnect.boardgamesapi.search;
+
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameCatalogView;
+import com.meepleconnect.boardgamesapi.models.BoardgameFacets;
+import com.meepleconnect.boardgamesapi.models.BoardgameSearchCriteria;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogSnapshotTest {
+
+    @Mock
+    private BoardgameRepository boardgameRepository;
+
+    private CatalogSnapshot catalogSnapshot;
+
+    @BeforeEach
+    void setUp() {
+        catalogSnapshot = new CatalogSnapshot(boardgameRepository, true);
+    }
+
+    @Test
+    void rebuild_ShouldLoadAllGamesAndBecomeReady() {
+        loadCatalog();
+
+        assertThat(catalogSnapshot.isReady()).isTrue();
+        assertThat(catalogSnapshot.size()).isEqualTo(4);
+    }
+
+    @Test
+    void rebuild_WhenDisabled_ShouldNotQueryRepository() {
+        CatalogSnapshot disabled = new CatalogSnapshot(boardgameRepository, false);
+
+        disabled.rebuild();
+
+        assertThat(disabled.isReady()).isFalse();
+        verify(boardgameRepository, never()).findCatalogViewsBy();
+    }
+
+    @Test
+    void rebuild_ShouldKeepChangesCommittedWhileReading() {
+        Boardgame boardgame = new Boardgame("Azul", new BigDecimal("34.50"), true, 2, 4, "Abstract", null);
+        boardgame.setId(5L);
+        when(boardgameRepository.findCatalogViewsBy()).thenAnswer(invocation -> {
+            catalogSnapshot.onBoardgameChanged(BoardgameChangedEvent.created(boardgame));
+            return List.of(catalogView(1L, "Catan", "29.99", 3, 4, "Strategy", true));
+        });
+
+        catalogSnapshot.rebuild();
+
+        assertThat(catalogSnapshot.size()).isEqualTo(2);
+        assertThat(catalogSnapshot.select(criteria(null, "abstract", null, null, null, null, null, null, false)))
+                .containsExactly(5L);
+    }
+
+    @Test
+    void select_WithGenreIgnoringCase_ShouldReturnMatchingIds() {
+        loadCatalog();
+
+        long[] result = catalogSnapshot.select(criteria(null, "strategy", null, null, null, null, null, null, false));
+
+        assertThat(result).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void select_WithCombinedFilters_ShouldIntersectAllConditions() {
+        loadCatalog();
+
+        long[] result = catalogSnapshot.select(criteria(null, null, true, 2, 4, null,
+                new BigDecimal("40"), null, false));
+
+        assertThat(result).containsExactly(1L, 4L);
+    }
+
+    @Test
+    void select_WithPriceRange_ShouldCompareInCents() {
+        loadCatalog();
+
+        long[] result = catalogSnapshot.select(criteria(null, null, null, null, null,
+                new BigDecimal("29.99"), new BigDecimal("39.99"), null, false));
+
+        assertThat(result).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void select_WithUnknownGenre_ShouldReturnNothing() {
+        loadCatalog();
+
+        long[] result = catalogSnapshot.select(criteria(null, "Puzzle", null, null, null, null, null, null, false));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void select_WithSortDescending_ShouldOrderByFieldThenId() {
+        loadCatalog();
+
+        long[] result = catalogSnapshot.select(criteria(null, null, null, null, null, null, null, "price", true));
+
+        assertThat(result).containsExactly(3L, 2L, 1L, 4L);
+    }
+
+    @Test
+    void select_WithTiedSortKeys_ShouldBreakTiesByAscendingId() {
+        loadCatalog();
+
+        long[] result = catalogSnapshot.select(criteria(null, null, null, null, null, null, null, "maxPlayers", true));
+
+        assertThat(result).containsExactly(3L, 2L, 1L, 4L);
+    }
+
+    @Test
+    void select_WithIdSortAfterSlotReuse_ShouldOrderByIdNotSlot() {
+        loadCatalog();
+        catalogSnapshot.onBoardgameChanged(BoardgameChangedEvent.deleted(2L, false));
+        Boardgame boardgame = new Boardgame("Azul", new BigDecimal("34.50"), true, 2, 4, "Abstract", null);
+        boardgame.setId(5L);
+        catalogSnapshot.onBoardgameChanged(BoardgameChangedEvent.created(boardgame));
+
+        assertThat(catalogSnapshot.select(criteria(null, null, null, null, null, null, null, null, false)))
+                .containsExactly(1L, 3L, 4L, 5L);
+        assertThat(catalogSnapshot.select(criteria(null, null, null, null, null, null, null, "id", true)))
+                .containsExactly(5L, 4L, 3L, 1L);
+    }
+
+    @Test
+    void select_WithRankedIds_ShouldKeepRankOrderForRelevance() {
+        loadCatalog();
+
+        long[] result = catalogSnapshot.select(criteria("game", null, null, null, null, null, null, null, false),
+                List.of(3L, 99L, 1L, 2L));
+
+        assertThat(result).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    void selectRanked_ShouldApplyLimitAfterFiltering() {
+        loadCatalog();
+
+        long[] result = catalogSnapshot.selectRanked(criteria("game", null, true, null, null, null, null, null, false),
+                List.of(2L, 4L, 3L, 1L), 2);
+
+        assertThat(result).containsExactly(4L, 3L);
+    }
+
+    @Test
+    void select_WithRankedIdsAndFieldSort_ShouldSortWithinRankedIds() {
+        loadCatalog();
+
+        long[] result = catalogSnapshot.select(criteria("game", null, null, null, null, null, null, "name", false),
+                List.of(3L, 1L));
+
+        assertThat(result).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void onBoardgameChanged_WhenCreated_ShouldReuseFreedSlot() {
+        loadCatalog();
+        catalogSnapshot.onBoardgameChanged(BoardgameChangedEvent.deleted(2L, false));
+
+        Boardgame boardgame = new Boardgame("Azul", new BigDecimal("34.50"), true, 2, 4, "Abstract", null);
+        boardgame.setId(5L);
+        catalogSnapshot.onBoardgameChanged(BoardgameChangedEvent.created(boardgame));
+
+        assertThat(catalogSnapshot.size()).isEqualTo(4);
+        assertThat(catalogSnapshot.select(criteria(null, "abstract", null, null, null, null, null, null, false)))
+                .containsExactly(5L);
+        assertThat(catalogSnapshot.select(criteria(null, "family", null, null, null, null, null, null, false)))
+                .isEmpty();
+    }
+
+    @Test
+    void onBoardgameChanged_WhenUpdated_ShouldMoveGameToNewGenre() {
+        loadCatalog();
+
+        Boardgame boardgame = new Boardgame("Catan", new BigDecimal("29.99"), false, 3, 4, "Family", null);
+        boardgame.setId(1L);
+        catalogSnapshot.onBoardgameChanged(BoardgameChangedEvent.updated(boardgame, true));
+
+        assertThat(catalogSnapshot.select(criteria(null, "strategy", null, null, null, null, null, null, false)))
+                .containsExactly(3L);
+        assertThat(catalogSnapshot.select(criteria(null, "family", false, null, null, null, null, null, false)))
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void facets_ShouldCountMatchingSlots() {
+        loadCatalog();
+
+        BoardgameFacets facets = catalogSnapshot.facets(
+                criteria(null, null, true, null, null, null, null, null, false), null);
+
+        assertThat(facets.total()).isEqualTo(3);
+        assertThat(facets.genres()).containsEntry("Strategy", 2L).containsEntry("Party", 1L);
+        assertThat(facets.priceRanges()).containsEntry("0-20", 1L).containsEntry("20-40", 1L)
+                .containsEntry("60+", 1L);
+        assertThat(facets.playerCounts()).containsEntry("2", 1L).containsEntry("5-6", 1L);
+    }
+
+    private void loadCatalog() {
+        when(boardgameRepository.findCatalogViewsBy()).thenReturn(List.of(
+                catalogView(1L, "Catan", "29.99", 3, 4, "Strategy", true),
+                catalogView(2L, "Ticket to Ride", "39.99", 2, 5, "Family", false),
+                catalogView(3L, "Twilight Imperium", "149.00", 3, 6, "Strategy", true),
+                catalogView(4L, "Love Letter", "9.95", 2, 4, "Party", true)));
+        catalogSnapshot.rebuild();
+    }
+
+    private static BoardgameSearchCriteria criteria(String name, String genre, Boolean available, Integer minPlayers,
+            Integer maxPlayers, BigDecimal minPrice, BigDecimal maxPrice, String sort, boolean descending) {
+        return new BoardgameSearchCriteria(name, genre, available, minPlayers, maxPlayers, minPrice, maxPrice,
+                sort, descending, null, null);
+    }
+
+    private static BoardgameCatalogView catalogView(Long id, String name, String price, int minPlayers,
+            int maxPlayers, String genre, boolean available) {
+        return new BoardgameCatalogView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public BigDecimal getPrice() {
+                return new BigDecimal(price);
+            }
+
+            @Override
+            public int getMinPlayers() {
+                return minPlayers;
+            }
+
+            @Override
+            public int getMaxPlayers() {
+                return maxPlayers;
+            }
+
+            @Override
+            public String getGenre() {
+                return genre;
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return available;
+            }
+        };
+    }
+}
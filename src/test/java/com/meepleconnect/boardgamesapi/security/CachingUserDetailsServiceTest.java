@@ -0,0 +1,133 @@
+package com.meepleconnect.boardgamesapi.security;
+
+import com.meepleconnect.boardgamesapi.entities.Role;
+import com.meepleconnect.boardgamesapi.entities.User;
+import com.meepleconnect.boardgamesapi.events.UserChangedEvent;
+import com.meepleconnect.boardgamesapi.repositories.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsService = new CachingUserDetailsService(new UserDetailsServiceImpl(userRepository),
+                userRepository, meterRegistry, Duration.ofMinutes(5), Duration.ofSeconds(30), 100);
+    }
+
+    @Test
+    void loadUserByUsername_ShouldQueryOnceAndRecordHits() {
+        when(userRepository.findByUserName("Edwin")).thenReturn(Optional.of(user(1L, "Edwin")));
+
+        UserDetails first = userDetailsService.loadUserByUsername("Edwin");
+        UserDetails second = userDetailsService.loadUserByUsername("Edwin");
+
+        assertThat(second.getUsername()).isEqualTo("Edwin");
+        assertThat(second.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+        assertThat(second).isNotSameAs(first);
+        verify(userRepository, times(1)).findByUserName("Edwin");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CachingUserDetailsService.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void loadUserByUsername_ShouldKeepCachedPasswordWhenCredentialsAreErased() {
+        when(userRepository.findByUserName("Edwin")).thenReturn(Optional.of(user(1L, "Edwin")));
+
+        ((CredentialsContainer) userDetailsService.loadUserByUsername("Edwin")).eraseCredentials();
+
+        assertThat(userDetailsService.loadUserByUsername("Edwin").getPassword()).isEqualTo("hash");
+    }
+
+    @Test
+    void loadUserByUsername_ShouldCacheUnknownUsernames() {
+        when(userRepository.findByUserName("ghost")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("ghost"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("ghost"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        verify(userRepository, times(1)).findByUserName("ghost");
+    }
+
+    @Test
+    void onUserChanged_ShouldEvictChangedUserAndUnknownUsernames() {
+        when(userRepository.findByUserName("Edwin")).thenReturn(Optional.of(user(1L, "Edwin")));
+        when(userRepository.findByUserName("Ruthger")).thenReturn(Optional.of(user(2L, "Ruthger")));
+        when(userRepository.findByUserName("newbie")).thenReturn(Optional.empty(), Optional.of(user(3L, "newbie")));
+        userDetailsService.loadUserByUsername("Edwin");
+        userDetailsService.loadUserByUsername("Ruthger");
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("newbie"))
+                .isInstanceOf(UsernameNotFoundException.class);
+
+        userDetailsService.onUserChanged(UserChangedEvent.created(3L));
+        userDetailsService.onUserChanged(UserChangedEvent.updated(1L));
+
+        assertThat(userDetailsService.loadUserByUsername("newbie").getUsername()).isEqualTo("newbie");
+        userDetailsService.loadUserByUsername("Edwin");
+        userDetailsService.loadUserByUsername("Ruthger");
+        verify(userRepository, times(2)).findByUserName("Edwin");
+        verify(userRepository, times(1)).findByUserName("Ruthger");
+    }
+
+    @Test
+    void authenticate_WithOutdatedHash_ShouldRehashAndEvictCachedUser() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(5);
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordEncoder);
+        provider.setUserDetailsService(userDetailsService);
+        provider.setUserDetailsPasswordService(userDetailsService);
+        User edwin = user(1L, "Edwin");
+        edwin.setPassword(new BCryptPasswordEncoder(4).encode("secret"));
+        when(userRepository.findByUserName("Edwin")).thenReturn(Optional.of(edwin));
+
+        provider.authenticate(new UsernamePasswordAuthenticationToken("Edwin", "secret"));
+        userDetailsService.loadUserByUsername("Edwin");
+
+        verify(userRepository).updatePassword(eq("Edwin"), startsWith("{bcrypt}$2a$05$"));
+        verify(userRepository, times(2)).findByUserName("Edwin");
+    }
+
+    private static User user(Long id, String userName) {
+        Role role = new Role();
+        role.setRoleName("ROLE_USER");
+        User user = new User(id);
+        user.setUserName(userName);
+        user.setPassword("hash");
+        user.setRoles(List.of(role));
+        return user;
+    }
+}
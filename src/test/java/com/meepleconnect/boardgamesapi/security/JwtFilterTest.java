@@ -0,0 +1,214 @@
+package com.meepleconnect.boardgamesapi.security;
+
+import com.meepleconnect.boardgamesapi.entities.Role;
+import com.meepleconnect.boardgamesapi.entities.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class JwtFilterTest {
+
+    private static final String SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci10ZXN0aW5nLXB1cnBvc2VzLW9ubHk=";
+
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private RevokedTokenList revokedTokenList;
+
+    private JwtUtil jwtUtil;
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenList = new RevokedTokenList(3600000L, Duration.ofMinutes(1), 1024);
+        jwtUtil = spy(new JwtUtil(SECRET, "test-audience", "test-issuer", 3600000L));
+        jwtFilter = new JwtFilter(jwtUtil, tokenVersionCache, revokedTokenList, userDetailsService, false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_WithValidToken_ShouldAuthenticateFromClaims() throws Exception {
+        String token = jwtUtil.generateToken(user("Edwin", "ROLE_ADMIN", 3));
+        when(tokenVersionCache.isCurrent(7L, 3)).thenReturn(true);
+
+        jwtFilter.doFilter(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isInstanceOf(JwtAuthenticationToken.class);
+        assertThat(authentication.getName()).isEqualTo("Edwin");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+        verify(jwtUtil, times(1)).parseClaims(token);
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void doFilter_WithLoadPrincipalEnabled_ShouldUseUserDetailsService() throws Exception {
+        JwtFilter loadingFilter = new JwtFilter(jwtUtil, tokenVersionCache, revokedTokenList, userDetailsService, true);
+        String token = jwtUtil.generateToken(user("Edwin", "ROLE_USER", 0));
+        when(tokenVersionCache.isCurrent(7L, 0)).thenReturn(true);
+        when(userDetailsService.loadUserByUsername("Edwin"))
+                .thenReturn(org.springframework.security.core.userdetails.User.withUsername("Edwin")
+                        .password("secret").roles("ADMIN").build());
+
+        loadingFilter.doFilter(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void doFilter_WithStaleTokenVersion_ShouldNotAuthenticate() throws Exception {
+        String token = jwtUtil.generateToken(user("Edwin", "ROLE_USER", 3));
+        when(tokenVersionCache.isCurrent(7L, 3)).thenReturn(false);
+
+        jwtFilter.doFilter(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void doFilter_WithRevokedTokenId_ShouldNotAuthenticate() throws Exception {
+        String token = jwtUtil.generateToken(user("Edwin", "ROLE_USER", 3));
+        Claims claims = jwtUtil.parseClaims(token);
+        revokedTokenList.revoke(claims.getId(), claims.getExpiration());
+
+        jwtFilter.doFilter(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(tokenVersionCache, never()).isCurrent(any(), anyInt());
+    }
+
+    @Test
+    void doFilter_WithTokenWithoutVersionClaims_ShouldNotAuthenticate() throws Exception {
+        String legacy = Jwts.builder()
+                .setSubject("Edwin")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        jwtFilter.doFilter(bearer(legacy), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(tokenVersionCache, never()).isCurrent(any(), anyInt());
+    }
+
+    @Test
+    void doFilter_WithoutBearerHeader_ShouldNotParseOrAuthenticate() throws Exception {
+        jwtFilter.doFilter(new MockHttpServletRequest("GET", "/api/boardgames"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(jwtUtil, never()).parseClaims(anyString());
+        verify(tokenVersionCache, never()).isCurrent(any(), anyInt());
+    }
+
+    @Test
+    void doFilter_WithExpiredToken_ShouldContinueUnauthenticated() throws Exception {
+        String expired = Jwts.builder()
+                .setSubject("Edwin")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        jwtFilter.doFilter(bearer(expired), new MockHttpServletResponse(), filterChain);
+
+        assertThat(filterChain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(tokenVersionCache, never()).isCurrent(any(), anyInt());
+    }
+
+    @Test
+    void doFilter_WithMalformedToken_ShouldContinueUnauthenticated() throws Exception {
+        MockFilterChain filterChain = new MockFilterChain();
+
+        jwtFilter.doFilter(bearer("not-a-jwt"), new MockHttpServletResponse(), filterChain);
+
+        assertThat(filterChain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void parseClaims_ShouldRejectTamperedAndExpiredTokens() {
+        String token = jwtUtil.generateToken(user("Edwin", "ROLE_USER", 0));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String expired = Jwts.builder()
+                .setSubject("Edwin")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(jwtUtil.parseClaims(token).getSubject()).isEqualTo("Edwin");
+        assertThatThrownBy(() -> jwtUtil.parseClaims(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtUtil.parseClaims(expired)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void generateToken_ShouldEmbedUserIdRolesAndVersion() {
+        Claims claims = jwtUtil.parseClaims(jwtUtil.generateToken(user("Edwin", "USER", 5)));
+
+        assertThat(jwtUtil.validateToken(claims)).isTrue();
+        assertThat(jwtUtil.getUserId(claims)).isEqualTo(7L);
+        assertThat(jwtUtil.getTokenVersion(claims)).isEqualTo(5);
+        assertThat(jwtUtil.getAuthorities(claims)).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+    }
+
+    private static User user(String userName, String roleName, int tokenVersion) {
+        Role role = new Role();
+        role.setRoleName(roleName);
+        User user = new User(7L);
+        user.setUserName(userName);
+        user.setRoles(List.of(role));
+        user.setTokenVersion(tokenVersion);
+        return user;
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reservations");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
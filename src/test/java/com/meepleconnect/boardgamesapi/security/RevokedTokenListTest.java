@@ -0,0 +1,101 @@
+package com.meepleconnect.boardgamesapi.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RevokedTokenListTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+    private MutableClock clock;
+    private RevokedTokenList revokedTokenList;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        revokedTokenList = new RevokedTokenList(Duration.ofMinutes(15).toMillis(), Duration.ofMinutes(1), 256,
+                clock);
+    }
+
+    @Test
+    void isRevoked_ShouldOnlyMatchRevokedIdsInTheirExpiryBucket() {
+        Date expiresAt = Date.from(NOW.plus(Duration.ofMinutes(10)));
+        revokedTokenList.revoke("revoked", expiresAt);
+
+        assertThat(revokedTokenList.isRevoked("revoked", expiresAt)).isTrue();
+        assertThat(revokedTokenList.isRevoked("other", expiresAt)).isFalse();
+        assertThat(revokedTokenList.isRevoked("revoked", Date.from(NOW.plus(Duration.ofMinutes(12))))).isFalse();
+    }
+
+    @Test
+    void isRevoked_WithManyIdsInOneBucket_ShouldHaveNoFalsePositives() {
+        Date expiresAt = Date.from(NOW.plus(Duration.ofMinutes(5)));
+        for (int i = 0; i < 1000; i++) {
+            revokedTokenList.revoke("revoked-" + i, expiresAt);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(revokedTokenList.isRevoked("revoked-" + i, expiresAt)).isTrue();
+            assertThat(revokedTokenList.isRevoked("active-" + i, expiresAt)).isFalse();
+        }
+    }
+
+    @Test
+    void revoke_ShouldReuseBucketsOfExpiredTokens() {
+        Date firstExpiry = Date.from(NOW.plus(Duration.ofMinutes(1)));
+        revokedTokenList.revoke("old", firstExpiry);
+
+        clock.advance(Duration.ofMinutes(10));
+        Date sameSlotExpiry = Date.from(firstExpiry.toInstant().plus(Duration.ofMinutes(17)));
+        revokedTokenList.revoke("new", sameSlotExpiry);
+
+        assertThat(revokedTokenList.isRevoked("old", firstExpiry)).isFalse();
+        assertThat(revokedTokenList.isRevoked("new", sameSlotExpiry)).isTrue();
+        assertThat(revokedTokenList.isRevoked("old", sameSlotExpiry)).isFalse();
+    }
+
+    @Test
+    void revoke_WithAlreadyExpiredToken_ShouldBeIgnored() {
+        Date expiresAt = Date.from(NOW.minusSeconds(1));
+
+        revokedTokenList.revoke("expired", expiresAt);
+
+        assertThat(revokedTokenList.isRevoked("expired", expiresAt)).isFalse();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
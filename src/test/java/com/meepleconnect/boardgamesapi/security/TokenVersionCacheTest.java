@@ -0,0 +1,60 @@
+package com.meepleconnect.boardgamesapi.security;
+
+import com.meepleconnect.boardgamesapi.events.UserChangedEvent;
+import com.meepleconnect.boardgamesapi.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenVersionCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenVersionCache tokenVersionCache;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionCache = new TokenVersionCache(userRepository, Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    void isCurrent_ShouldLoadVersionOncePerUser() {
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(2));
+
+        assertThat(tokenVersionCache.isCurrent(1L, 2)).isTrue();
+        assertThat(tokenVersionCache.isCurrent(1L, 1)).isFalse();
+        assertThat(tokenVersionCache.isCurrent(1L, 2)).isTrue();
+        verify(userRepository, times(1)).findTokenVersionById(1L);
+    }
+
+    @Test
+    void isCurrent_WithDeletedUser_ShouldRejectEveryVersion() {
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.empty());
+
+        assertThat(tokenVersionCache.isCurrent(1L, 0)).isFalse();
+    }
+
+    @Test
+    void onUserChanged_ShouldReloadVersionOnNextCheck() {
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(0), Optional.of(1));
+
+        assertThat(tokenVersionCache.isCurrent(1L, 0)).isTrue();
+        tokenVersionCache.onUserChanged(UserChangedEvent.updated(1L));
+
+        assertThat(tokenVersionCache.isCurrent(1L, 0)).isFalse();
+        assertThat(tokenVersionCache.isCurrent(1L, 1)).isTrue();
+        verify(userRepository, times(2)).findTokenVersionById(1L);
+    }
+}
@@ -0,0 +1,245 @@
+package com.meepleconnect.boardgamesapi.services;
+
+import com.meepleconnect.boardgamesapi.models.BoardgameNameView;
+import com.meepleconnect.boardgamesapi.models.BoardgameReservationTotals;
+import com.meepleconnect.boardgamesapi.models.GenreReservationTotals;
+import com.meepleconnect.boardgamesapi.models.MonthlyReservationTotals;
+import com.meepleconnect.boardgamesapi.models.TrendingWindow;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import com.meepleconnect.boardgamesapi.repositories.ReservationDailyStatsRepository;
+import com.meepleconnect.boardgamesapi.repositories.ReservationRepository;
+import com.meepleconnect.boardgamesapi.repositories.UserRepository;
+import com.meepleconnect.boardgamesapi.statistics.TrendingTracker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsServiceTest {
+
+    @Mock
+    private ReservationDailyStatsRepository dailyStatsRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BoardgameRepository boardgameRepository;
+
+    @Mock
+    private TrendingTracker trendingTracker;
+
+    @InjectMocks
+    private AnalyticsService analyticsService;
+
+    @Test
+    void getSeasonalTrends_ShouldBucketMonthsIntoSeasons() {
+        List<MonthlyReservationTotals> months = List.of(monthly(1, 2), monthly(12, 3), monthly(4, 1),
+                monthly(7, 6), monthly(8, 1), monthly(10, 2));
+        when(dailyStatsRepository.sumByMonthBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+                .thenReturn(months);
+
+        Map<String, Object> trends = analyticsService.getSeasonalTrends(2024);
+
+        assertThat(trends.get("year")).isEqualTo(2024);
+        assertThat(trends.get("seasonalReservations"))
+                .isEqualTo(Map.of("Winter", 5L, "Spring", 1L, "Summer", 7L, "Autumn", 2L));
+        assertThat(trends.get("peakSeason")).isEqualTo("Summer");
+        assertThat(trends.get("lowSeason")).isEqualTo("Spring");
+        verify(reservationRepository, never()).findAll();
+    }
+
+    @Test
+    void getSeasonalTrends_WithoutReservations_ShouldReturnZeroesAndNoPeak() {
+        when(dailyStatsRepository.sumByMonthBetween(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of());
+
+        Map<String, Object> trends = analyticsService.getSeasonalTrends(2024);
+
+        assertThat(trends.get("seasonalReservations"))
+                .isEqualTo(Map.of("Winter", 0L, "Spring", 0L, "Summer", 0L, "Autumn", 0L));
+        assertThat(trends.get("peakSeason")).isNull();
+        assertThat(trends.get("lowSeason")).isNull();
+    }
+
+    @Test
+    void getBoardgamePerformance_ShouldComputeMetricsFromRollup() {
+        List<GenreReservationTotals> genres = List.of(genre("Strategy", 6), genre("Family", 2));
+        when(boardgameRepository.count()).thenReturn(4L);
+        when(dailyStatsRepository.sumReservations()).thenReturn(8L);
+        when(dailyStatsRepository.findMostReserved(Limit.of(1))).thenReturn(List.of(game(1L, "Catan", 6)));
+        when(dailyStatsRepository.findLeastReserved(Limit.of(1))).thenReturn(List.of(game(2L, "Chess", 0)));
+        when(dailyStatsRepository.countReservedBoardgames()).thenReturn(2L);
+        when(dailyStatsRepository.sumByGenre()).thenReturn(genres);
+
+        Map<String, Object> metrics = analyticsService.getBoardgamePerformance();
+
+        assertThat(metrics.get("mostReservedGame")).isEqualTo("Catan");
+        assertThat(metrics.get("leastReservedGame")).isEqualTo("Chess");
+        assertThat(metrics.get("averageReservationsPerGame")).isEqualTo(2.0);
+        assertThat(metrics.get("topPerformingGenre")).isEqualTo("Strategy");
+        assertThat(metrics.get("utilizationRate")).isEqualTo(50.0);
+    }
+
+    @Test
+    void getBoardgamePerformance_WithoutReservations_ShouldNotNameGames() {
+        when(boardgameRepository.count()).thenReturn(1L);
+        when(dailyStatsRepository.sumReservations()).thenReturn(0L);
+        when(dailyStatsRepository.sumByGenre()).thenReturn(List.of());
+
+        Map<String, Object> metrics = analyticsService.getBoardgamePerformance();
+
+        assertThat(metrics.get("mostReservedGame")).isNull();
+        assertThat(metrics.get("leastReservedGame")).isNull();
+        assertThat(metrics.get("averageReservationsPerGame")).isEqualTo(0.0);
+        assertThat(metrics.get("topPerformingGenre")).isNull();
+        assertThat(metrics.get("utilizationRate")).isEqualTo(0.0);
+        verify(dailyStatsRepository, never()).findMostReserved(any());
+        verify(dailyStatsRepository, never()).findLeastReserved(any());
+    }
+
+    @Test
+    void getCustomerInsights_ShouldCombineRollupAndCustomerCounts() {
+        when(userRepository.count()).thenReturn(4L);
+        when(dailyStatsRepository.sumReservations()).thenReturn(10L);
+        when(reservationRepository.countCustomersBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(3L);
+        when(reservationRepository.countReturningCustomersBetween(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(2L);
+        when(reservationRepository.countCustomersFrom(LocalDate.now().minusDays(90))).thenReturn(3L);
+        when(reservationRepository.countFirstTimeCustomersBetween(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(1L);
+
+        Map<String, Object> insights = analyticsService.getCustomerInsights();
+
+        assertThat(insights.get("totalCustomers")).isEqualTo(4L);
+        assertThat(insights.get("activeCustomers")).isEqualTo(3L);
+        assertThat(insights.get("averageReservationsPerCustomer")).isEqualTo(2.5);
+        assertThat(insights.get("customerRetentionRate")).isEqualTo(66.67);
+        assertThat(insights.get("newCustomersThisMonth")).isEqualTo(1L);
+        verify(reservationRepository, never()).findAll();
+    }
+
+    @Test
+    void getCustomerInsights_WithoutPreviousCustomers_ShouldSkipRetentionQuery() {
+        when(userRepository.count()).thenReturn(0L);
+        when(reservationRepository.countCustomersBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(0L);
+
+        Map<String, Object> insights = analyticsService.getCustomerInsights();
+
+        assertThat(insights.get("averageReservationsPerCustomer")).isEqualTo(0.0);
+        assertThat(insights.get("customerRetentionRate")).isEqualTo(0.0);
+        verify(reservationRepository, never()).countReturningCustomersBetween(any(), any());
+    }
+
+    @Test
+    void getTrendingBoardgames_ShouldResolveNamesAndSkipDeletedGames() {
+        Map<Long, Long> scores = new LinkedHashMap<>();
+        scores.put(3L, 12L);
+        scores.put(9L, 8L);
+        scores.put(1L, 5L);
+        when(trendingTracker.top(TrendingWindow.WEEK, 10)).thenReturn(scores);
+        List<BoardgameNameView> names = List.of(name(1L, "Catan"), name(3L, "Azul"));
+        when(boardgameRepository.findProjectedByIdIn(scores.keySet())).thenReturn(names);
+
+        Map<String, Object> trending = analyticsService.getTrendingBoardgames(TrendingWindow.WEEK, 10);
+
+        assertThat(trending.get("window")).isEqualTo("week");
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> games = (List<Map<String, Object>>) trending.get("trendingGames");
+        assertThat(games).extracting(game -> game.get("name")).containsExactly("Azul", "Catan");
+        assertThat(games).extracting(game -> game.get("score")).containsExactly(12L, 5L);
+    }
+
+    @Test
+    void getTrendingBoardgames_ShouldCapLimitAndSkipLookupWhenEmpty() {
+        when(trendingTracker.top(TrendingWindow.DAY, 50)).thenReturn(Map.of());
+
+        Map<String, Object> trending = analyticsService.getTrendingBoardgames(TrendingWindow.DAY, 500);
+
+        assertThat((List<?>) trending.get("trendingGames")).isEmpty();
+        verify(boardgameRepository, never()).findProjectedByIdIn(any());
+    }
+
+    private static BoardgameNameView name(Long id, String name) {
+        return new BoardgameNameView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+
+    private static MonthlyReservationTotals monthly(int month, long reservations) {
+        return new MonthlyReservationTotals() {
+            @Override
+            public int getMonth() {
+                return month;
+            }
+
+            @Override
+            public long getReservationCount() {
+                return reservations;
+            }
+
+            @Override
+            public long getParticipantCount() {
+                return reservations * 2;
+            }
+        };
+    }
+
+    private static BoardgameReservationTotals game(Long id, String name, long reservations) {
+        return new BoardgameReservationTotals() {
+            @Override
+            public Long getBoardgameId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public long getReservationCount() {
+                return reservations;
+            }
+        };
+    }
+
+    private static GenreReservationTotals genre(String genre, long reservations) {
+        return new GenreReservationTotals() {
+            @Override
+            public String getGenre() {
+                return genre;
+            }
+
+            @Override
+            public long getReservationCount() {
+                return reservations;
+            }
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.meepleconnect.boardgamesapi.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meepleconnect.boardgamesapi.dtos.BoardgameDTOMapper;
+import com.meepleconnect.boardgamesapi.exceptions.BadRequestException;
+import com.meepleconnect.boardgamesapi.models.BoardgameListing;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import com.meepleconnect.boardgamesapi.repositories.PublisherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BoardgameExportServiceTest {
+
+    @Mock
+    private BoardgameRepository boardgameRepository;
+
+    @Mock
+    private PublisherRepository publisherRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicBoolean streamClosed = new AtomicBoolean();
+    private BoardgameExportService boardgameExportService;
+
+    @BeforeEach
+    void setUp() {
+        boardgameExportService = new BoardgameExportService(boardgameRepository,
+                new BoardgameDTOMapper(publisherRepository), objectMapper);
+    }
+
+    @Test
+    void exportCatalog_AsJson_ShouldWriteSingleArray() throws Exception {
+        when(boardgameRepository.streamListingsBy()).thenReturn(listings(
+                listing(1L, "Catan"), listing(2L, "Pandemic")));
+
+        JsonNode result = objectMapper.readTree(export(BoardgameExportService.FORMAT_JSON));
+
+        assertThat(result.isArray()).isTrue();
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).get("name").asText()).isEqualTo("Catan");
+        assertThat(result.get(1).get("publisher").get("name").asText()).isEqualTo("Test Publisher");
+        assertThat(streamClosed).isTrue();
+    }
+
+    @Test
+    void exportCatalog_AsNdjson_ShouldWriteOneDocumentPerLine() throws Exception {
+        when(boardgameRepository.streamListingsBy()).thenReturn(listings(
+                listing(1L, "Catan"), listing(2L, "Pandemic")));
+
+        String result = export(BoardgameExportService.FORMAT_NDJSON);
+
+        assertThat(result).endsWith("\n");
+        String[] lines = result.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(1L);
+        assertThat(objectMapper.readTree(lines[1]).get("name").asText()).isEqualTo("Pandemic");
+        assertThat(streamClosed).isTrue();
+    }
+
+    @Test
+    void exportCatalog_WithEmptyCatalog_ShouldWriteEmptyDocument() throws Exception {
+        when(boardgameRepository.streamListingsBy()).thenReturn(listings());
+        assertThat(export(BoardgameExportService.FORMAT_JSON)).isEqualTo("[]");
+
+        when(boardgameRepository.streamListingsBy()).thenReturn(listings());
+        assertThat(export(BoardgameExportService.FORMAT_NDJSON)).isEmpty();
+    }
+
+    @Test
+    void exportCatalog_WithUnknownFormat_ShouldThrowBadRequestException() {
+        assertThatThrownBy(() -> export("xml"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Format must be 'json' or 'ndjson'.");
+
+        verifyNoInteractions(boardgameRepository);
+    }
+
+    private String export(String format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        boardgameExportService.exportCatalog(format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private Stream<BoardgameListing> listings(BoardgameListing... listings) {
+        return Stream.of(listings).onClose(() -> streamClosed.set(true));
+    }
+
+    private static BoardgameListing listing(Long id, String name) {
+        return new BoardgameListing(id, name, new BigDecimal("29.99"), 2, 4, "Strategy", true,
+                10L, "Test Publisher", "Netherlands", 2020, true);
+    }
+}
@@ -0,0 +1,128 @@
+package com.meepleconnect.boardgamesapi.services;
+
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
+import com.meepleconnect.boardgamesapi.models.BoardgameFacetRow;
+import com.meepleconnect.boardgamesapi.models.BoardgameFacets;
+import com.meepleconnect.boardgamesapi.models.BoardgameSearchCriteria;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import com.meepleconnect.boardgamesapi.search.BoardgameNameMatcher;
+import com.meepleconnect.boardgamesapi.search.CatalogSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BoardgameFacetServiceTest {
+
+    @Mock
+    private BoardgameRepository boardgameRepository;
+
+    @Mock
+    private BoardgameNameMatcher boardgameNameMatcher;
+
+    @Mock
+    private CatalogSnapshot catalogSnapshot;
+
+    private BoardgameFacetService boardgameFacetService;
+
+    @BeforeEach
+    void setUp() {
+        boardgameFacetService = new BoardgameFacetService(boardgameRepository, boardgameNameMatcher, catalogSnapshot,
+                Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    void getFacets_ShouldAggregateGroupedRows() {
+        when(boardgameRepository.findFacetRows(any(Specification.class))).thenReturn(List.of(
+                new BoardgameFacetRow("Strategy", true, 3, 4, new BigDecimal("29.99"), 2),
+                new BoardgameFacetRow("strategy", false, 1, 2, new BigDecimal("19.99"), 1),
+                new BoardgameFacetRow("Party", true, 4, 8, new BigDecimal("60.00"), 5)));
+
+        BoardgameFacets facets = boardgameFacetService.getFacets(criteria(null, null, null));
+
+        assertThat(facets.total()).isEqualTo(8);
+        assertThat(facets.genres()).containsExactly(Map.entry("Party", 5L), Map.entry("Strategy", 3L));
+        assertThat(facets.playerCounts()).containsEntry("1", 1L).containsEntry("3-4", 7L).containsEntry("7+", 5L);
+        assertThat(facets.priceRanges()).containsEntry("0-20", 1L).containsEntry("20-40", 2L)
+                .containsEntry("60+", 5L);
+        assertThat(facets.availability()).containsEntry("available", 7L).containsEntry("unavailable", 1L);
+    }
+
+    @Test
+    void getFacets_WithSameFilterSignature_ShouldUseCache() {
+        when(boardgameRepository.findFacetRows(any(Specification.class))).thenReturn(List.of());
+
+        boardgameFacetService.getFacets(criteria(null, "Strategy", new BigDecimal("20.00")));
+        boardgameFacetService.getFacets(criteria(null, "STRATEGY", new BigDecimal("20")));
+
+        verify(boardgameRepository, times(1)).findFacetRows(any(Specification.class));
+    }
+
+    @Test
+    void onBoardgameChanged_ShouldInvalidateCache() {
+        when(boardgameRepository.findFacetRows(any(Specification.class))).thenReturn(List.of());
+
+        boardgameFacetService.getFacets(criteria(null, "Strategy", null));
+        boardgameFacetService.onBoardgameChanged(BoardgameChangedEvent.deleted(1L, true));
+        boardgameFacetService.getFacets(criteria(null, "Strategy", null));
+
+        verify(boardgameRepository, times(2)).findFacetRows(any(Specification.class));
+    }
+
+    @Test
+    void getFacets_WithReadySnapshot_ShouldNotQueryDatabase() {
+        BoardgameFacets expected = new BoardgameFacets(1, Map.of("Strategy", 1L), Map.of(), Map.of(), Map.of());
+        when(catalogSnapshot.isReady()).thenReturn(true);
+        when(catalogSnapshot.facets(any(BoardgameSearchCriteria.class), isNull())).thenReturn(expected);
+
+        BoardgameFacets facets = boardgameFacetService.getFacets(criteria(null, "Strategy", null));
+
+        assertThat(facets).isEqualTo(expected);
+        verify(boardgameRepository, never()).findFacetRows(any());
+    }
+
+    @Test
+    void getFacets_WithNameWithoutMatches_ShouldReturnEmptyFacets() {
+        when(boardgameNameMatcher.findMatchingIds(any(BoardgameSearchCriteria.class))).thenReturn(List.of());
+
+        BoardgameFacets facets = boardgameFacetService.getFacets(criteria("unknown", null, null));
+
+        assertThat(facets.total()).isZero();
+        assertThat(facets.genres()).isEmpty();
+        verify(boardgameRepository, never()).findFacetRows(any());
+    }
+
+    @Test
+    void getFacets_WithReadySnapshotAndName_ShouldCountCappedNameMatches() {
+        BoardgameFacets expected = new BoardgameFacets(2, Map.of("Strategy", 2L), Map.of(), Map.of(), Map.of());
+        when(boardgameNameMatcher.findMatchingIds(any(BoardgameSearchCriteria.class))).thenReturn(List.of(3L, 1L));
+        when(catalogSnapshot.isReady()).thenReturn(true);
+        when(catalogSnapshot.facets(any(BoardgameSearchCriteria.class), eq(List.of(3L, 1L)))).thenReturn(expected);
+
+        BoardgameFacets facets = boardgameFacetService.getFacets(criteria("game", "Strategy", null));
+
+        assertThat(facets).isEqualTo(expected);
+        verify(boardgameRepository, never()).findFacetRows(any());
+    }
+
+    private static BoardgameSearchCriteria criteria(String name, String genre, BigDecimal maxPrice) {
+        return new BoardgameSearchCriteria(name, genre, null, null, null, null, maxPrice, null, false, null, null);
+    }
+}
@@ -0,0 +1,207 @@
+package com.meepleconnect.boardgamesapi.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meepleconnect.boardgamesapi.dtos.BoardgameDTOMapper;
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
+import com.meepleconnect.boardgamesapi.exceptions.BadRequestException;
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameImportResult;
+import com.meepleconnect.boardgamesapi.models.Publisher;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import com.meepleconnect.boardgamesapi.repositories.PublisherRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BoardgameImportServiceTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private BoardgameRepository boardgameRepository;
+
+    @Mock
+    private PublisherRepository publisherRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private Publisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new Publisher();
+        ReflectionTestUtils.setField(publisher, "id", 1L);
+        publisher.setName("Test Publisher");
+    }
+
+    @Test
+    void importBoardgames_ShouldRunOneTransactionAndOneNameQueryPerChunk() throws Exception {
+        stubLookups(List.of());
+
+        BoardgameImportResult result = importService(2, 10).importBoardgames(ndjson(
+                row("Catan", 1L), row("Pandemic", 1L), row("Azul", 1L), row("Carcassonne", 1L), row("Root", 1L)),
+                MediaType.APPLICATION_NDJSON);
+
+        assertThat(result.received()).isEqualTo(5);
+        assertThat(result.imported()).isEqualTo(5);
+        assertThat(result.rejected()).isZero();
+        assertThat(result.errors()).isEmpty();
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(boardgameRepository, times(3)).findExistingLowerNames(anyCollection());
+        verify(publisherRepository, times(3)).findAllById(anyCollection());
+        verify(boardgameRepository, times(3)).saveAll(anyCollection());
+        verify(entityManager, times(3)).clear();
+        verify(eventPublisher, times(5)).publishEvent(any(BoardgameChangedEvent.class));
+    }
+
+    @Test
+    void importBoardgames_ShouldRejectExistingDuplicateAndUnknownPublisherRows() throws Exception {
+        stubLookups(List.of("catan"));
+
+        BoardgameImportResult result = importService(10, 10).importBoardgames(json(
+                row("CATAN", 1L), row("Azul", 1L), row("azul", 1L), row("Root", 2L)),
+                MediaType.APPLICATION_JSON);
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.errors()).extracting(error -> error.row()).containsExactly(1L, 3L, 4L);
+        assertThat(result.errors().get(0).messages()).containsExactly("Boardgame with name 'CATAN' already exists.");
+        assertThat(result.errors().get(2).messages()).containsExactly("Publisher with ID 2 not found.");
+
+        ArgumentCaptor<List<Boardgame>> saved = savedBoardgames();
+        verify(boardgameRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Boardgame::getName).containsExactly("Azul");
+        assertThat(saved.getValue().get(0).getPublisher()).isSameAs(publisher);
+    }
+
+    @Test
+    void importBoardgames_WithInvalidRows_ShouldSkipDatabaseWhenNothingIsValid() throws Exception {
+        BoardgameImportResult result = importService(10, 10).importBoardgames(json(
+                row("", 1L), row("Pandemic", null)), MediaType.APPLICATION_JSON);
+
+        assertThat(result.imported()).isZero();
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.errors().get(0).messages())
+                .containsExactly("Name is required", "Name must be between 1 and 100 characters");
+        assertThat(result.errors().get(1).messages()).containsExactly("Publisher is required");
+        verify(transactionManager, never()).getTransaction(any());
+        verify(boardgameRepository, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    void importBoardgames_ShouldCapReportedErrors() throws Exception {
+        BoardgameImportResult result = importService(10, 2).importBoardgames(json(
+                row("", 1L), row("", 1L), row("", 1L)), MediaType.APPLICATION_JSON);
+
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.errors()).hasSize(2);
+        assertThat(result.errorsTruncated()).isTrue();
+    }
+
+    @Test
+    void importBoardgames_WithCsv_ShouldMapColumnsByHeader() throws Exception {
+        stubLookups(List.of());
+        String csv = """
+                publisherId,name,genre,price,minPlayers,maxPlayers,available
+                1,Catan,Strategy,39.95,3,4,true
+                1,Azul,Abstract,29.50,2,4,false
+                """;
+
+        BoardgameImportResult result = importService(10, 10).importBoardgames(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), MediaType.parseMediaType("text/csv"));
+
+        assertThat(result.imported()).isEqualTo(2);
+        ArgumentCaptor<List<Boardgame>> saved = savedBoardgames();
+        verify(boardgameRepository).saveAll(saved.capture());
+        Boardgame azul = saved.getValue().get(1);
+        assertThat(azul.getName()).isEqualTo("Azul");
+        assertThat(azul.getGenre()).isEqualTo("Abstract");
+        assertThat(azul.getPrice()).isEqualByComparingTo("29.50");
+        assertThat(azul.isAvailable()).isFalse();
+    }
+
+    @Test
+    void importBoardgames_WithUnmappableValue_ShouldRejectRowAndContinue() throws Exception {
+        stubLookups(List.of());
+        String content = row("Catan", 1L).replace("39.95", "\"cheap\"") + "\n" + row("Azul", 1L);
+
+        BoardgameImportResult result = importService(10, 10).importBoardgames(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), MediaType.APPLICATION_NDJSON);
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.errors()).hasSize(1);
+        assertThat(result.errors().get(0).row()).isEqualTo(1);
+        assertThat(result.errors().get(0).messages().get(0)).startsWith("Malformed row");
+    }
+
+    @Test
+    void importBoardgames_WithBrokenSyntax_ShouldThrowBadRequest() {
+        String content = row("Catan", 1L) + "\n{\"name\": ";
+
+        assertThatThrownBy(() -> importService(10, 10).importBoardgames(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), MediaType.APPLICATION_NDJSON))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageStartingWith("Import content is malformed at row 2");
+    }
+
+    private BoardgameImportService importService(int chunkSize, int maxReportedErrors) {
+        return new BoardgameImportService(boardgameRepository, publisherRepository,
+                new BoardgameDTOMapper(publisherRepository), VALIDATOR, entityManager, eventPublisher,
+                transactionManager, new ObjectMapper(), chunkSize, maxReportedErrors);
+    }
+
+    private void stubLookups(List<String> existingNames) {
+        when(boardgameRepository.findExistingLowerNames(anyCollection())).thenReturn(new ArrayList<>(existingNames));
+        when(publisherRepository.findAllById(anyCollection())).thenReturn(List.of(publisher));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Boardgame>> savedBoardgames() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private static String row(String name, Long publisherId) {
+        return "{\"name\": \"" + name + "\", \"price\": 39.95, \"minPlayers\": 2, \"maxPlayers\": 4, "
+                + "\"genre\": \"Strategy\", \"available\": true, \"publisherId\": " + publisherId + "}";
+    }
+
+    private static ByteArrayInputStream json(String... rows) {
+        return new ByteArrayInputStream(("[" + String.join(",", rows) + "]").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ByteArrayInputStream ndjson(String... rows) {
+        return new ByteArrayInputStream(String.join("\n", rows).getBytes(StandardCharsets.UTF_8));
+    }
+}
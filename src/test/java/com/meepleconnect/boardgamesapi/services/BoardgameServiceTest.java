@@ -1,18 +1,32 @@
 package com.meepleconnect.boardgamesapi.services;
 
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
 import com.meepleconnect.boardgamesapi.exceptions.BadRequestException;
 import com.meepleconnect.boardgamesapi.exceptions.ConflictException;
 import com.meepleconnect.boardgamesapi.exceptions.GameNotFoundException;
 import com.meepleconnect.boardgamesapi.exceptions.TeapotException;
+import com.meepleconnect.boardgamesapi.helpers.EntityCacheEvictor;
 import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.BoardgameListing;
+import com.meepleconnect.boardgamesapi.models.BoardgameSearchCriteria;
+import com.meepleconnect.boardgamesapi.models.PopularBoardgame;
 import com.meepleconnect.boardgamesapi.models.Publisher;
 import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import com.meepleconnect.boardgamesapi.search.BoardgameNameMatcher;
+import com.meepleconnect.boardgamesapi.search.CatalogSnapshot;
+import com.meepleconnect.boardgamesapi.statistics.PopularityRanking;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -23,10 +37,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +49,21 @@ public class BoardgameServiceTest {
     @Mock
     private BoardgameRepository boardgameRepository;
 
+    @Mock
+    private BoardgameNameMatcher boardgameNameMatcher;
+
+    @Mock
+    private CatalogSnapshot catalogSnapshot;
+
+    @Mock
+    private PopularityRanking popularityRanking;
+
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BoardgameService boardgameService;
 
@@ -116,6 +145,120 @@ public class BoardgameServiceTest {
         verify(boardgameRepository, times(1)).findById(999L);
     }
 
+    @Test
+    void searchBoardgames_WithName_ShouldKeepRelevanceOrderAndPage() {
+        ReflectionTestUtils.setField(boardgameService, "maxPageSize", 100);
+        when(boardgameNameMatcher.findMatchingIds(any(BoardgameSearchCriteria.class))).thenReturn(List.of(2L, 1L));
+        when(boardgameRepository.findAllById(List.of(1L))).thenReturn(List.of(testBoardgame));
+
+        List<Boardgame> result = boardgameService.searchBoardgames(
+                new BoardgameSearchCriteria("game", null, null, null, null, null, null, null, false, 1, 1));
+
+        assertThat(result).containsExactly(testBoardgame);
+        verify(boardgameRepository, never()).findAll(any(Specification.class));
+    }
+
+    @Test
+    void searchBoardgames_WithNameWithoutPaging_ShouldLoadAllMatchesInRankedOrder() {
+        when(boardgameNameMatcher.findMatchingIds(any(BoardgameSearchCriteria.class))).thenReturn(List.of(2L, 1L));
+        when(boardgameRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(testBoardgame, testBoardgame2));
+
+        List<Boardgame> result = boardgameService.searchBoardgames(
+                new BoardgameSearchCriteria("game", null, null, null, null, null, null, null, false, null, null));
+
+        assertThat(result).containsExactly(testBoardgame2, testBoardgame);
+    }
+
+    @Test
+    void searchBoardgames_WithNameAndFieldSort_ShouldSortMatchesInQuery() {
+        when(boardgameNameMatcher.findMatchingIds(any(BoardgameSearchCriteria.class))).thenReturn(List.of(2L, 1L));
+        when(boardgameRepository.findAll(any(Specification.class), any(Sort.class)))
+                .thenReturn(List.of(testBoardgame2, testBoardgame));
+
+        List<Boardgame> result = boardgameService.searchBoardgames(
+                new BoardgameSearchCriteria("game", null, null, null, null, null, null, "name", false, null, null));
+
+        assertThat(result).containsExactly(testBoardgame2, testBoardgame);
+        verify(boardgameRepository, times(1)).findAll(any(Specification.class), any(Sort.class));
+    }
+
+    @Test
+    void searchBoardgames_WithNameWithoutMatches_ShouldNotQueryRepository() {
+        when(boardgameNameMatcher.findMatchingIds(any(BoardgameSearchCriteria.class))).thenReturn(List.of());
+
+        List<Boardgame> result = boardgameService.searchBoardgames(
+                new BoardgameSearchCriteria("unknown", null, null, null, null, null, null, null, false, null, null));
+
+        assertThat(result).isEmpty();
+        verify(boardgameRepository, never()).findAll(any(Specification.class));
+        verify(boardgameRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void searchBoardgames_WithSortAndPage_ShouldRunSinglePagedQuery() {
+        ReflectionTestUtils.setField(boardgameService, "maxPageSize", 100);
+        when(boardgameRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(testBoardgame2)));
+
+        List<Boardgame> result = boardgameService.searchBoardgames(new BoardgameSearchCriteria(
+                null, null, null, null, null, null, new BigDecimal("50"), "price", true, 0, 1));
+
+        assertThat(result).containsExactly(testBoardgame2);
+        verify(boardgameRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
+        verify(boardgameNameMatcher, never()).findMatchingIds(any());
+    }
+
+    @Test
+    void searchBoardgames_WithoutPaging_ShouldReturnSortedResults() {
+        when(boardgameRepository.findAll(any(Specification.class), any(Sort.class)))
+                .thenReturn(List.of(testBoardgame, testBoardgame2));
+
+        List<Boardgame> result = boardgameService.searchBoardgames(new BoardgameSearchCriteria(
+                null, null, null, 1, null, null, null, "name", false, null, null));
+
+        assertThat(result).containsExactly(testBoardgame, testBoardgame2);
+        verify(boardgameRepository, times(1)).findAll(any(Specification.class), any(Sort.class));
+    }
+
+    @Test
+    void searchBoardgames_WithReadySnapshot_ShouldOnlyLoadRequestedPage() {
+        ReflectionTestUtils.setField(boardgameService, "maxPageSize", 100);
+        when(catalogSnapshot.isReady()).thenReturn(true);
+        when(catalogSnapshot.select(any(BoardgameSearchCriteria.class), any())).thenReturn(new long[] {2L, 1L});
+        when(boardgameRepository.findAllById(List.of(1L))).thenReturn(List.of(testBoardgame));
+
+        List<Boardgame> result = boardgameService.searchBoardgames(new BoardgameSearchCriteria(
+                null, "Strategy", null, null, null, null, null, "price", true, 1, 1));
+
+        assertThat(result).containsExactly(testBoardgame);
+        verify(boardgameRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void searchBoardgames_WithReadySnapshotWithoutPaging_ShouldQueryBySpecification() {
+        when(catalogSnapshot.isReady()).thenReturn(true);
+        when(boardgameRepository.findAll(any(Specification.class), any(Sort.class)))
+                .thenReturn(List.of(testBoardgame, testBoardgame2));
+
+        List<Boardgame> result = boardgameService.searchBoardgames(new BoardgameSearchCriteria(
+                null, "Strategy", null, null, null, null, null, "price", false, null, null));
+
+        assertThat(result).containsExactly(testBoardgame, testBoardgame2);
+        verify(catalogSnapshot, never()).select(any(BoardgameSearchCriteria.class), any());
+        verify(boardgameRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void getFilteredBoardgames_WithReadySnapshot_ShouldQueryBySpecification() {
+        when(boardgameRepository.findListings(any(Specification.class)))
+                .thenReturn(List.of(listing(testBoardgame), listing(testBoardgame2)));
+
+        List<BoardgameListing> result = boardgameService.getFilteredBoardgames(null, null, 1, null);
+
+        assertThat(result).containsExactly(listing(testBoardgame), listing(testBoardgame2));
+        verify(catalogSnapshot, never()).select(any(BoardgameSearchCriteria.class));
+    }
+
     @Test
     void addBoardgame_WithValidBoardgame_ShouldSaveBoardgame() {
         when(boardgameRepository.findByNameIgnoreCase("New Game")).thenReturn(Optional.empty());
@@ -130,6 +273,7 @@ public class BoardgameServiceTest {
         assertThat(result).isEqualTo(testBoardgame);
         verify(boardgameRepository, times(1)).findByNameIgnoreCase("New Game");
         verify(boardgameRepository, times(1)).save(newGame);
+        verify(eventPublisher, times(1)).publishEvent(BoardgameChangedEvent.created(testBoardgame));
     }
 
     @Test
@@ -169,6 +313,7 @@ public class BoardgameServiceTest {
 
         verify(boardgameRepository, times(1)).findByNameIgnoreCase("Test Game");
         verify(boardgameRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -189,6 +334,8 @@ public class BoardgameServiceTest {
         assertThat(result).isEqualTo(testBoardgame);
         verify(boardgameRepository, times(1)).findById(1L);
         verify(boardgameRepository, times(1)).save(testBoardgame);
+        verify(entityCacheEvictor, times(1)).evict(Boardgame.class, 1L);
+        verify(eventPublisher, times(1)).publishEvent(BoardgameChangedEvent.updated(testBoardgame, true));
     }
 
     @Test
@@ -204,6 +351,7 @@ public class BoardgameServiceTest {
 
         verify(boardgameRepository, times(1)).findById(999L);
         verify(boardgameRepository, never()).save(any());
+        verifyNoInteractions(entityCacheEvictor);
     }
 
     @Test
@@ -234,24 +382,27 @@ public class BoardgameServiceTest {
 
     @Test
     void deleteBoardgame_WithValidId_ShouldDeleteBoardgame() {
-        when(boardgameRepository.existsById(1L)).thenReturn(true);
+        when(boardgameRepository.findById(1L)).thenReturn(Optional.of(testBoardgame));
 
         boardgameService.deleteBoardgame(1L);
 
-        verify(boardgameRepository, times(1)).existsById(1L);
-        verify(boardgameRepository, times(1)).deleteById(1L);
+        verify(boardgameRepository, times(1)).findById(1L);
+        verify(boardgameRepository, times(1)).delete(testBoardgame);
+        verify(entityCacheEvictor, times(1)).evict(Boardgame.class, 1L);
+        verify(eventPublisher, times(1)).publishEvent(BoardgameChangedEvent.deleted(1L, true));
     }
 
     @Test
     void deleteBoardgame_WithInvalidId_ShouldThrowGameNotFoundException() {
-        when(boardgameRepository.existsById(999L)).thenReturn(false);
+        when(boardgameRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> boardgameService.deleteBoardgame(999L))
                 .isInstanceOf(GameNotFoundException.class)
                 .hasMessage("Boardgame with ID 999 not found.");
 
-        verify(boardgameRepository, times(1)).existsById(999L);
-        verify(boardgameRepository, never()).deleteById(anyLong());
+        verify(boardgameRepository, times(1)).findById(999L);
+        verify(boardgameRepository, never()).delete(any(Boardgame.class));
+        verifyNoInteractions(entityCacheEvictor);
     }
 
     @Test
@@ -286,74 +437,73 @@ public class BoardgameServiceTest {
 
     @Test
     void getFilteredBoardgames_WithGenreFilter_ShouldReturnFilteredGames() {
-        List<Boardgame> allGames = List.of(testBoardgame, testBoardgame2);
-        when(boardgameRepository.findAll()).thenReturn(allGames);
+        when(boardgameRepository.findListings(any(Specification.class))).thenReturn(List.of(listing(testBoardgame)));
 
-        List<Boardgame> result = boardgameService.getFilteredBoardgames("Strategy", null, null, null);
+        List<BoardgameListing> result = boardgameService.getFilteredBoardgames("Strategy", null, null, null);
 
         assertThat(result).hasSize(1);
-        assertThat(result.get(0).getGenre()).isEqualTo("Strategy");
-        verify(boardgameRepository, times(1)).findAll();
+        assertThat(result.get(0).genre()).isEqualTo("Strategy");
+        verify(boardgameRepository, times(1)).findListings(any(Specification.class));
+        verify(boardgameRepository, never()).findAll();
     }
 
     @Test
     void getFilteredBoardgames_WithAvailabilityFilter_ShouldReturnFilteredGames() {
-        List<Boardgame> allGames = List.of(testBoardgame, testBoardgame2);
-        when(boardgameRepository.findAll()).thenReturn(allGames);
+        when(boardgameRepository.findListings(any(Specification.class))).thenReturn(List.of(listing(testBoardgame)));
 
-        List<Boardgame> result = boardgameService.getFilteredBoardgames(null, true, null, null);
+        List<BoardgameListing> result = boardgameService.getFilteredBoardgames(null, true, null, null);
 
         assertThat(result).hasSize(1);
-        assertThat(result.get(0).isAvailable()).isTrue();
-        verify(boardgameRepository, times(1)).findAll();
+        assertThat(result.get(0).available()).isTrue();
+        verify(boardgameRepository, times(1)).findListings(any(Specification.class));
+        verify(boardgameRepository, never()).findAll();
     }
 
     @Test
     void getFilteredBoardgames_WithMinPlayersFilter_ShouldReturnFilteredGames() {
-        List<Boardgame> allGames = List.of(testBoardgame, testBoardgame2);
-        when(boardgameRepository.findAll()).thenReturn(allGames);
+        when(boardgameRepository.findListings(any(Specification.class))).thenReturn(List.of(listing(testBoardgame)));
 
-        List<Boardgame> result = boardgameService.getFilteredBoardgames(null, null, 2, null);
+        List<BoardgameListing> result = boardgameService.getFilteredBoardgames(null, null, 2, null);
 
         assertThat(result).hasSize(1);
-        assertThat(result.get(0).getMinPlayers()).isEqualTo(2);
-        verify(boardgameRepository, times(1)).findAll();
+        assertThat(result.get(0).minPlayers()).isEqualTo(2);
+        verify(boardgameRepository, times(1)).findListings(any(Specification.class));
+        verify(boardgameRepository, never()).findAll();
     }
 
     @Test
     void getFilteredBoardgames_WithMaxPlayersFilter_ShouldReturnFilteredGames() {
-        List<Boardgame> allGames = List.of(testBoardgame, testBoardgame2);
-        when(boardgameRepository.findAll()).thenReturn(allGames);
+        when(boardgameRepository.findListings(any(Specification.class))).thenReturn(List.of(listing(testBoardgame)));
 
-        List<Boardgame> result = boardgameService.getFilteredBoardgames(null, null, null, 4);
+        List<BoardgameListing> result = boardgameService.getFilteredBoardgames(null, null, null, 4);
 
         assertThat(result).hasSize(1);
-        assertThat(result.get(0).getMaxPlayers()).isEqualTo(4);
-        verify(boardgameRepository, times(1)).findAll();
+        assertThat(result.get(0).maxPlayers()).isEqualTo(4);
+        verify(boardgameRepository, times(1)).findListings(any(Specification.class));
+        verify(boardgameRepository, never()).findAll();
     }
 
     @Test
     void getFilteredBoardgames_WithMultipleFilters_ShouldReturnFilteredGames() {
-        List<Boardgame> allGames = List.of(testBoardgame, testBoardgame2);
-        when(boardgameRepository.findAll()).thenReturn(allGames);
+        when(boardgameRepository.findListings(any(Specification.class))).thenReturn(List.of(listing(testBoardgame)));
 
-        List<Boardgame> result = boardgameService.getFilteredBoardgames("Strategy", true, 2, 4);
+        List<BoardgameListing> result = boardgameService.getFilteredBoardgames("Strategy", true, 2, 4);
 
         assertThat(result).hasSize(1);
-        assertThat(result.get(0)).isEqualTo(testBoardgame);
-        verify(boardgameRepository, times(1)).findAll();
+        assertThat(result.get(0)).isEqualTo(listing(testBoardgame));
+        verify(boardgameRepository, times(1)).findListings(any(Specification.class));
+        verify(boardgameRepository, never()).findAll();
     }
 
     @Test
     void getFilteredBoardgames_WithNoFilters_ShouldReturnAllGames() {
-        List<Boardgame> allGames = List.of(testBoardgame, testBoardgame2);
-        when(boardgameRepository.findAll()).thenReturn(allGames);
+        when(boardgameRepository.findListings(any(Specification.class))).thenReturn(List.of(listing(testBoardgame), listing(testBoardgame2)));
 
-        List<Boardgame> result = boardgameService.getFilteredBoardgames(null, null, null, null);
+        List<BoardgameListing> result = boardgameService.getFilteredBoardgames(null, null, null, null);
 
         assertThat(result).hasSize(2);
-        assertThat(result).containsExactly(testBoardgame, testBoardgame2);
-        verify(boardgameRepository, times(1)).findAll();
+        assertThat(result).containsExactly(listing(testBoardgame), listing(testBoardgame2));
+        verify(boardgameRepository, times(1)).findListings(any(Specification.class));
     }
 
     @Test
@@ -368,19 +518,19 @@ public class BoardgameServiceTest {
 
     @Test
     void getAvailableBoardgamesCount_ShouldReturnAvailableCount() {
-        List<Boardgame> allGames = List.of(testBoardgame, testBoardgame2);
-        when(boardgameRepository.findAll()).thenReturn(allGames);
+        when(boardgameRepository.countByAvailable(true)).thenReturn(1L);
 
         long result = boardgameService.getAvailableBoardgamesCount();
 
         assertThat(result).isEqualTo(1L);
-        verify(boardgameRepository, times(1)).findAll();
+        verify(boardgameRepository, never()).findAll();
     }
 
     @Test
-    void getPopularBoardgames_ShouldReturnPopularGamesMap() {
-        List<Boardgame> allGames = List.of(testBoardgame, testBoardgame2);
-        when(boardgameRepository.findAll()).thenReturn(allGames);
+    void getPopularBoardgames_ShouldServeRankingWithoutRepository() {
+        List<PopularBoardgame> ranking = List.of(new PopularBoardgame(1L, "Test Game", "Strategy", 3.5),
+                new PopularBoardgame(2L, "Second Game", "Family", 1.25));
+        when(popularityRanking.top()).thenReturn(ranking);
 
         Map<String, Object> result = boardgameService.getPopularBoardgames();
 
@@ -392,8 +542,16 @@ public class BoardgameServiceTest {
         assertThat(firstGame.get("id")).isEqualTo(1L);
         assertThat(firstGame.get("name")).isEqualTo("Test Game");
         assertThat(firstGame.get("genre")).isEqualTo("Strategy");
-        assertThat(firstGame.get("popularityScore")).isEqualTo(100);
+        assertThat(firstGame.get("popularityScore")).isEqualTo(3.5);
 
-        verify(boardgameRepository, times(1)).findAll();
+        verifyNoInteractions(boardgameRepository);
+    }
+
+    private static BoardgameListing listing(Boardgame boardgame) {
+        Publisher publisher = boardgame.getPublisher();
+        return new BoardgameListing(boardgame.getId(), boardgame.getName(), boardgame.getPrice(),
+                boardgame.getMinPlayers(), boardgame.getMaxPlayers(), boardgame.getGenre(), boardgame.isAvailable(),
+                publisher.getId(), publisher.getName(), publisher.getCountryOfOrigin(), publisher.getFounded(),
+                publisher.isIndie());
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,9 @@
 package com.meepleconnect.boardgamesapi.services;
 
 import com.meepleconnect.boardgamesapi.exceptions.PublisherNotFoundException;
+import com.meepleconnect.boardgamesapi.helpers.EntityCacheEvictor;
 import com.meepleconnect.boardgamesapi.models.Publisher;
+import com.meepleconnect.boardgamesapi.models.PublisherListing;
 import com.meepleconnect.boardgamesapi.repositories.PublisherRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +31,9 @@ public class PublisherServiceTest {
     @Mock
     private PublisherRepository publisherRepository;
 
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
     @InjectMocks
     private PublisherService publisherService;
 
@@ -51,14 +57,17 @@ public class PublisherServiceTest {
 
     @Test
     void getAllPublishers_ShouldReturnAllPublishers() {
-        List<Publisher> expectedPublishers = List.of(testPublisher, testPublisher2);
-        when(publisherRepository.findAll()).thenReturn(expectedPublishers);
+        List<PublisherListing> expectedPublishers = List.of(
+                new PublisherListing(1L, "Test Publisher", "Netherlands", 2020, true),
+                new PublisherListing(2L, "Second Publisher", "Germany", 2015, false));
+        when(publisherRepository.findListingsBy()).thenReturn(expectedPublishers);
 
-        List<Publisher> result = publisherService.getAllPublishers();
+        List<PublisherListing> result = publisherService.getAllPublishers();
 
         assertThat(result).hasSize(2);
-        assertThat(result).containsExactly(testPublisher, testPublisher2);
-        verify(publisherRepository, times(1)).findAll();
+        assertThat(result).containsExactlyElementsOf(expectedPublishers);
+        verify(publisherRepository, times(1)).findListingsBy();
+        verify(publisherRepository, never()).findAll();
     }
 
     @Test
@@ -146,6 +155,7 @@ public class PublisherServiceTest {
         assertThat(result).isEqualTo(testPublisher);
         verify(publisherRepository, times(1)).findById(1L);
         verify(publisherRepository, times(1)).save(testPublisher);
+        verify(entityCacheEvictor, times(1)).evict(Publisher.class, 1L);
     }
 
     @Test
@@ -161,6 +171,7 @@ public class PublisherServiceTest {
 
         verify(publisherRepository, times(1)).findById(999L);
         verify(publisherRepository, never()).save(any());
+        verifyNoInteractions(entityCacheEvictor);
     }
 
     @Test
@@ -171,6 +182,7 @@ public class PublisherServiceTest {
 
         verify(publisherRepository, times(1)).existsById(1L);
         verify(publisherRepository, times(1)).deleteById(1L);
+        verify(entityCacheEvictor, times(1)).evict(Publisher.class, 1L);
     }
 
     @Test
@@ -183,5 +195,6 @@ public class PublisherServiceTest {
 
         verify(publisherRepository, times(1)).existsById(999L);
         verify(publisherRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(entityCacheEvictor);
     }
 }
\ No newline at end of file
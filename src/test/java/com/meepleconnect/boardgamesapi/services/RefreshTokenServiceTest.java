@@ -0,0 +1,151 @@
+package com.meepleconnect.boardgamesapi.services;
+
+import com.meepleconnect.boardgamesapi.entities.RefreshToken;
+import com.meepleconnect.boardgamesapi.entities.User;
+import com.meepleconnect.boardgamesapi.models.AuthTokens;
+import com.meepleconnect.boardgamesapi.repositories.RefreshTokenRepository;
+import com.meepleconnect.boardgamesapi.security.JwtUtil;
+import com.meepleconnect.boardgamesapi.security.RevokedTokenList;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+
+    private static final String SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci10ZXN0aW5nLXB1cnBvc2VzLW9ubHk=";
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private final Map<String, RefreshToken> storedTokens = new HashMap<>();
+    private JwtUtil jwtUtil;
+    private RevokedTokenList revokedTokenList;
+    private RefreshTokenService refreshTokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, "test-audience", "test-issuer", 900000L);
+        revokedTokenList = new RevokedTokenList(900000L, Duration.ofMinutes(1), 1024);
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtUtil, revokedTokenList,
+                Duration.ofDays(14), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        user = new User(1L);
+        user.setUserName("Edwin");
+        user.setRoles(List.of());
+
+        lenient().when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            token.setId((long) storedTokens.size() + 1);
+            storedTokens.put(token.getTokenHash(), token);
+            return token;
+        });
+        lenient().when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(storedTokens.get(invocation.<String>getArgument(0))));
+    }
+
+    @Test
+    void login_ShouldStoreOnlyTheHashOfTheRefreshToken() {
+        AuthTokens tokens = refreshTokenService.login(user);
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getTokenHash()).hasSize(64).isNotEqualTo(tokens.refreshToken());
+        assertThat(saved.getValue().getExpiresAt()).isEqualTo(NOW.plus(Duration.ofDays(14)));
+        assertThat(jwtUtil.parseClaims(tokens.accessToken()).getSubject()).isEqualTo("Edwin");
+    }
+
+    @Test
+    void refresh_ShouldRotateWithinTheSameFamily() {
+        AuthTokens first = refreshTokenService.login(user);
+        when(refreshTokenRepository.revoke(1L, NOW)).thenReturn(1);
+
+        AuthTokens second = refreshTokenService.refresh(first.refreshToken());
+
+        assertThat(second.refreshToken()).isNotEqualTo(first.refreshToken());
+        assertThat(storedTokens.values()).extracting(RefreshToken::getFamilyId).containsOnly(
+                storedTokens.values().iterator().next().getFamilyId());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+    }
+
+    @Test
+    void refresh_WithRotatedToken_ShouldRevokeTheWholeFamily() {
+        AuthTokens first = refreshTokenService.login(user);
+        RefreshToken stored = storedTokens.values().iterator().next();
+        stored.setRevokedAt(NOW.minusSeconds(30));
+
+        assertThatThrownBy(() -> refreshTokenService.refresh(first.refreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(refreshTokenRepository).revokeFamily(stored.getFamilyId(), NOW);
+    }
+
+    @Test
+    void refresh_WhenConcurrentRotationWins_ShouldRevokeTheWholeFamily() {
+        AuthTokens first = refreshTokenService.login(user);
+        when(refreshTokenRepository.revoke(1L, NOW)).thenReturn(0);
+
+        assertThatThrownBy(() -> refreshTokenService.refresh(first.refreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(refreshTokenRepository).revokeFamily(storedTokens.values().iterator().next().getFamilyId(), NOW);
+    }
+
+    @Test
+    void refresh_AfterUserTokenVersionChanged_ShouldRejectAndRevoke() {
+        AuthTokens first = refreshTokenService.login(user);
+        user.setTokenVersion(1);
+
+        assertThatThrownBy(() -> refreshTokenService.refresh(first.refreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(refreshTokenRepository, never()).revoke(anyLong(), any());
+    }
+
+    @Test
+    void refresh_WithExpiredOrUnknownToken_ShouldReject() {
+        AuthTokens first = refreshTokenService.login(user);
+        storedTokens.values().iterator().next().setExpiresAt(NOW);
+
+        assertThatThrownBy(() -> refreshTokenService.refresh(first.refreshToken()))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessage("Refresh token has expired");
+        assertThatThrownBy(() -> refreshTokenService.refresh("unknown"))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessage("Invalid refresh token");
+    }
+
+    @Test
+    void logout_ShouldRevokeRefreshFamilyAndAccessToken() {
+        AuthTokens tokens = refreshTokenService.login(user);
+        Claims claims = jwtUtil.parseClaims(tokens.accessToken());
+
+        refreshTokenService.logout(tokens.refreshToken(), tokens.accessToken());
+
+        verify(refreshTokenRepository).revokeFamily(storedTokens.values().iterator().next().getFamilyId(), NOW);
+        assertThat(revokedTokenList.isRevoked(claims.getId(), claims.getExpiration())).isTrue();
+    }
+}
@@ -2,10 +2,13 @@ package com.meepleconnect.boardgamesapi.services;
 
 import com.meepleconnect.boardgamesapi.entities.Role;
 import com.meepleconnect.boardgamesapi.entities.User;
+import com.meepleconnect.boardgamesapi.events.ReservationChangedEvent;
 import com.meepleconnect.boardgamesapi.exceptions.GameNotFoundException;
 import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.MonthlyReservationTotals;
 import com.meepleconnect.boardgamesapi.models.Publisher;
 import com.meepleconnect.boardgamesapi.models.Reservation;
+import com.meepleconnect.boardgamesapi.models.ReservationTotals;
 import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
 import com.meepleconnect.boardgamesapi.repositories.ReservationRepository;
 import com.meepleconnect.boardgamesapi.repositories.UserRepository;
@@ -15,8 +18,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +31,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -43,6 +49,9 @@ public class ReservationServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -166,6 +175,8 @@ public class ReservationServiceTest {
         verify(userRepository, times(1)).findById(customerId);
         verify(boardgameRepository, times(1)).findById(boardgameId);
         verify(reservationRepository, times(1)).save(any(Reservation.class));
+        verify(eventPublisher, times(1)).publishEvent(
+                ReservationChangedEvent.created(testReservation));
     }
 
     @Test
@@ -212,24 +223,26 @@ public class ReservationServiceTest {
 
     @Test
     void cancelReservation_WithValidId_ShouldDeleteReservation() {
-        when(reservationRepository.existsById(1L)).thenReturn(true);
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
 
         reservationService.cancelReservation(1L);
 
-        verify(reservationRepository, times(1)).existsById(1L);
-        verify(reservationRepository, times(1)).deleteById(1L);
+        verify(reservationRepository, times(1)).findById(1L);
+        verify(reservationRepository, times(1)).delete(testReservation);
+        verify(eventPublisher, times(1)).publishEvent(
+                ReservationChangedEvent.cancelled(testReservation));
     }
 
     @Test
     void cancelReservation_WithInvalidId_ShouldThrowGameNotFoundException() {
-        when(reservationRepository.existsById(999L)).thenReturn(false);
+        when(reservationRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> reservationService.cancelReservation(999L))
                 .isInstanceOf(GameNotFoundException.class)
                 .hasMessage("Reservation with ID 999 wasn't found.");
 
-        verify(reservationRepository, times(1)).existsById(999L);
-        verify(reservationRepository, never()).deleteById(anyLong());
+        verify(reservationRepository, times(1)).findById(999L);
+        verify(reservationRepository, never()).delete(any());
     }
 
     @Test
@@ -244,84 +257,105 @@ public class ReservationServiceTest {
 
     @Test
     void getActiveReservationsCount_ShouldReturnActiveCount() {
-        Reservation pastReservation = new Reservation();
-        pastReservation.setReservationDate(LocalDate.now().minusDays(1));
-
-        Reservation futureReservation = new Reservation();
-        futureReservation.setReservationDate(LocalDate.now().plusDays(1));
-
-        List<Reservation> allReservations = List.of(pastReservation, futureReservation, testReservation);
-        when(reservationRepository.findAll()).thenReturn(allReservations);
+        when(reservationRepository.countByReservationDateAfter(any(LocalDate.class))).thenReturn(2L);
 
         long result = reservationService.getActiveReservationsCount();
 
         assertThat(result).isEqualTo(2L);
-        verify(reservationRepository, times(1)).findAll();
+        verify(reservationRepository, never()).findAll();
     }
 
     @Test
     void getMonthlyReservations_ShouldReturnMonthlyStats() {
-        Reservation januaryReservation = new Reservation();
-        januaryReservation.setReservationDate(LocalDate.of(2024, 1, 15));
-        januaryReservation.setParticipantCount(3);
-
-        Reservation anotherJanuaryReservation = new Reservation();
-        anotherJanuaryReservation.setReservationDate(LocalDate.of(2024, 1, 25));
-        anotherJanuaryReservation.setParticipantCount(5);
-
-        Reservation februaryReservation = new Reservation();
-        februaryReservation.setReservationDate(LocalDate.of(2024, 2, 10));
-        februaryReservation.setParticipantCount(2);
-
-        List<Reservation> allReservations = List.of(januaryReservation, anotherJanuaryReservation, februaryReservation);
-        when(reservationRepository.findAll()).thenReturn(allReservations);
+        ReservationTotals totals = reservationTotals(2, 8);
+        when(reservationRepository.sumByReservationDateBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)))
+                .thenReturn(totals);
 
         Map<String, Object> result = reservationService.getMonthlyReservations(2024, 1);
 
         assertThat(result.get("year")).isEqualTo(2024);
         assertThat(result.get("month")).isEqualTo(1);
-        assertThat(result.get("totalReservations")).isEqualTo(2);
-        assertThat(result.get("totalParticipants")).isEqualTo(8);
-        verify(reservationRepository, times(1)).findAll();
+        assertThat(result.get("totalReservations")).isEqualTo(2L);
+        assertThat(result.get("totalParticipants")).isEqualTo(8L);
+        verify(reservationRepository, never()).findAll();
     }
 
     @Test
     void getMonthlyReservations_WithNoReservationsInMonth_ShouldReturnZeroStats() {
-        List<Reservation> allReservations = List.of();
-        when(reservationRepository.findAll()).thenReturn(allReservations);
+        ReservationTotals totals = reservationTotals(0, 0);
+        when(reservationRepository.sumByReservationDateBetween(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(totals);
 
         Map<String, Object> result = reservationService.getMonthlyReservations(2024, 3);
 
         assertThat(result.get("year")).isEqualTo(2024);
         assertThat(result.get("month")).isEqualTo(3);
-        assertThat(result.get("totalReservations")).isEqualTo(0);
-        assertThat(result.get("totalParticipants")).isEqualTo(0);
-        verify(reservationRepository, times(1)).findAll();
+        assertThat(result.get("totalReservations")).isEqualTo(0L);
+        assertThat(result.get("totalParticipants")).isEqualTo(0L);
+        verify(reservationRepository, never()).findAll();
     }
 
     @Test
-    void getMonthlyReservations_WithReservationsOutsideMonth_ShouldFilterCorrectly() {
-        Reservation beforeMonth = new Reservation();
-        beforeMonth.setReservationDate(LocalDate.of(2024, 1, 31));
-        beforeMonth.setParticipantCount(3);
+    void getMonthlyReservations_ShouldQueryInclusiveMonthRange() {
+        ReservationTotals totals = reservationTotals(1, 4);
+        when(reservationRepository.sumByReservationDateBetween(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(totals);
 
-        Reservation inMonth = new Reservation();
-        inMonth.setReservationDate(LocalDate.of(2024, 2, 15));
-        inMonth.setParticipantCount(4);
+        Map<String, Object> result = reservationService.getMonthlyReservations(2024, 2);
 
-        Reservation afterMonth = new Reservation();
-        afterMonth.setReservationDate(LocalDate.of(2024, 3, 1));
-        afterMonth.setParticipantCount(2);
+        assertThat(result.get("totalReservations")).isEqualTo(1L);
+        assertThat(result.get("totalParticipants")).isEqualTo(4L);
+        verify(reservationRepository, times(1))
+                .sumByReservationDateBetween(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+    }
 
-        List<Reservation> allReservations = List.of(beforeMonth, inMonth, afterMonth);
-        when(reservationRepository.findAll()).thenReturn(allReservations);
+    @Test
+    void getMonthlyReservations_WithInvalidMonth_ShouldThrowWithoutQuerying() {
+        assertThatThrownBy(() -> reservationService.getMonthlyReservations(2024, 13))
+                .isInstanceOf(DateTimeException.class);
 
-        Map<String, Object> result = reservationService.getMonthlyReservations(2024, 2);
+        verify(reservationRepository, never()).sumByReservationDateBetween(any(), any());
+    }
+
+    @Test
+    void getYearlyReservations_ShouldReturnTwelveMonthBucketsFromOneQuery() {
+        MonthlyReservationTotals march = monthlyTotals(3, 2, 7);
+        MonthlyReservationTotals november = monthlyTotals(11, 1, 4);
+        when(reservationRepository.sumByMonthBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+                .thenReturn(List.of(march, november));
+
+        Map<String, Object> result = reservationService.getYearlyReservations(2024);
 
         assertThat(result.get("year")).isEqualTo(2024);
-        assertThat(result.get("month")).isEqualTo(2);
-        assertThat(result.get("totalReservations")).isEqualTo(1);
-        assertThat(result.get("totalParticipants")).isEqualTo(4);
-        verify(reservationRepository, times(1)).findAll();
+        assertThat(result.get("totalReservations")).isEqualTo(3L);
+        assertThat(result.get("totalParticipants")).isEqualTo(11L);
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> months = (List<Map<String, Object>>) result.get("months");
+        assertThat(months).hasSize(12);
+        assertThat(months).extracting(bucket -> bucket.get("month"))
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+        assertThat(months.get(0).get("totalReservations")).isEqualTo(0L);
+        assertThat(months.get(2).get("totalReservations")).isEqualTo(2L);
+        assertThat(months.get(2).get("totalParticipants")).isEqualTo(7L);
+        assertThat(months.get(10).get("totalReservations")).isEqualTo(1L);
+        assertThat(months.get(10).get("totalParticipants")).isEqualTo(4L);
+        verify(reservationRepository, times(1)).sumByMonthBetween(any(LocalDate.class), any(LocalDate.class));
+        verify(reservationRepository, never()).findAll();
+    }
+
+    private ReservationTotals reservationTotals(long reservations, long participants) {
+        ReservationTotals totals = mock(ReservationTotals.class);
+        when(totals.getReservationCount()).thenReturn(reservations);
+        when(totals.getParticipantCount()).thenReturn(participants);
+        return totals;
+    }
+
+    private MonthlyReservationTotals monthlyTotals(int month, long reservations, long participants) {
+        MonthlyReservationTotals totals = mock(MonthlyReservationTotals.class);
+        when(totals.getMonth()).thenReturn(month);
+        when(totals.getReservationCount()).thenReturn(reservations);
+        when(totals.getParticipantCount()).thenReturn(participants);
+        return totals;
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package com.meepleconnect.boardgamesapi.services;
 
 import com.meepleconnect.boardgamesapi.entities.Role;
 import com.meepleconnect.boardgamesapi.entities.User;
+import com.meepleconnect.boardgamesapi.events.UserChangedEvent;
 import com.meepleconnect.boardgamesapi.exceptions.UserNotFoundException;
 import com.meepleconnect.boardgamesapi.repositories.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
@@ -18,6 +20,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -33,6 +36,9 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -92,6 +98,7 @@ public class UserServiceTest {
         assertThat(testUser.getPassword()).isEqualTo(encodedPassword);
         verify(passwordEncoder, times(1)).encode("password123");
         verify(userRepository, times(1)).save(testUser);
+        verify(eventPublisher, times(1)).publishEvent(UserChangedEvent.created(testUser.getId()));
     }
 
     @Test
@@ -133,9 +140,11 @@ public class UserServiceTest {
         assertThat(testUser.getUserName()).isEqualTo("updateduser");
         assertThat(testUser.getPassword()).isEqualTo(encodedNewPassword);
         assertThat(testUser.getRoles()).isEqualTo(List.of(adminRole));
+        assertThat(testUser.getTokenVersion()).isEqualTo(1);
         verify(userRepository, times(1)).findById(1L);
         verify(passwordEncoder, times(1)).encode("newpassword");
         verify(userRepository, times(1)).save(testUser);
+        verify(eventPublisher, times(1)).publishEvent(UserChangedEvent.updated(testUser.getId()));
     }
 
     @Test
@@ -200,9 +209,22 @@ public class UserServiceTest {
 
     @Test
     void deleteUser_ShouldCallDeleteById() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+
         userService.deleteUser(1L);
 
         verify(userRepository, times(1)).deleteById(1L);
+        verify(eventPublisher, times(1)).publishEvent(UserChangedEvent.deleted(1L));
+    }
+
+    @Test
+    void deleteUser_WithUnknownId_ShouldNotPublishEvent() {
+        when(userRepository.existsById(999L)).thenReturn(false);
+
+        userService.deleteUser(999L);
+
+        verify(userRepository, never()).deleteById(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
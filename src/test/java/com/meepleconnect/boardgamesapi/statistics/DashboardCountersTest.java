@@ -0,0 +1,158 @@
+package com.meepleconnect.boardgamesapi.statistics;
+
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
+import com.meepleconnect.boardgamesapi.events.ReservationChangedEvent;
+import com.meepleconnect.boardgamesapi.events.UserChangedEvent;
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.DashboardCounts;
+import com.meepleconnect.boardgamesapi.models.DashboardStatistics;
+import com.meepleconnect.boardgamesapi.models.Reservation;
+import com.meepleconnect.boardgamesapi.repositories.BoardgameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardCountersTest {
+
+    @Mock
+    private BoardgameRepository boardgameRepository;
+
+    @InjectMocks
+    private DashboardCounters dashboardCounters;
+
+    @BeforeEach
+    void setUp() {
+        when(boardgameRepository.findDashboardStatistics(any(LocalDate.class)))
+                .thenReturn(statistics(10, 7, 20, 5, 3));
+        dashboardCounters.reconcile();
+    }
+
+    @Test
+    void current_AfterReconcile_ShouldNotQueryAgain() {
+        DashboardCounts counts = dashboardCounters.current();
+
+        assertThat(counts.totalBoardgames()).isEqualTo(10);
+        assertThat(counts.availableBoardgames()).isEqualTo(7);
+        assertThat(counts.totalReservations()).isEqualTo(20);
+        assertThat(counts.activeReservations()).isEqualTo(5);
+        assertThat(counts.totalUsers()).isEqualTo(3);
+        assertThat(counts.reconciledAt()).isNotNull();
+        verify(boardgameRepository, times(1)).findDashboardStatistics(any(LocalDate.class));
+    }
+
+    @Test
+    void current_BeforeFirstReconcile_ShouldReconcileOnce() {
+        DashboardCounters cold = new DashboardCounters(boardgameRepository);
+
+        cold.current();
+        DashboardCounts counts = cold.current();
+
+        assertThat(counts.totalBoardgames()).isEqualTo(10);
+        verify(boardgameRepository, times(2)).findDashboardStatistics(any(LocalDate.class));
+    }
+
+    @Test
+    void onBoardgameChanged_ShouldTrackTotalAndAvailability() {
+        Boardgame available = boardgame(1L, true);
+        Boardgame unavailable = boardgame(2L, false);
+
+        dashboardCounters.onBoardgameChanged(BoardgameChangedEvent.created(available));
+        dashboardCounters.onBoardgameChanged(BoardgameChangedEvent.created(unavailable));
+        dashboardCounters.onBoardgameChanged(BoardgameChangedEvent.updated(boardgame(1L, false), true));
+        dashboardCounters.onBoardgameChanged(BoardgameChangedEvent.deleted(2L, false));
+
+        DashboardCounts counts = dashboardCounters.current();
+        assertThat(counts.totalBoardgames()).isEqualTo(11);
+        assertThat(counts.availableBoardgames()).isEqualTo(7);
+    }
+
+    @Test
+    void onReservationChanged_ShouldOnlyCountFutureReservationsAsActive() {
+        LocalDate today = LocalDate.now();
+        dashboardCounters.onReservationChanged(ReservationChangedEvent.created(reservation(1L, today.plusDays(3))));
+        dashboardCounters.onReservationChanged(ReservationChangedEvent.created(reservation(2L, today)));
+        dashboardCounters.onReservationChanged(ReservationChangedEvent.cancelled(reservation(3L, today.plusDays(1))));
+
+        DashboardCounts counts = dashboardCounters.current();
+        assertThat(counts.totalReservations()).isEqualTo(21);
+        assertThat(counts.activeReservations()).isEqualTo(5);
+    }
+
+    @Test
+    void onUserChanged_ShouldTrackUserCount() {
+        dashboardCounters.onUserChanged(UserChangedEvent.created(4L));
+        dashboardCounters.onUserChanged(UserChangedEvent.created(5L));
+        dashboardCounters.onUserChanged(UserChangedEvent.deleted(4L));
+
+        assertThat(dashboardCounters.current().totalUsers()).isEqualTo(4);
+    }
+
+    @Test
+    void reconcile_ShouldCorrectDrift() {
+        dashboardCounters.onUserChanged(UserChangedEvent.created(4L));
+        when(boardgameRepository.findDashboardStatistics(any(LocalDate.class)))
+                .thenReturn(statistics(12, 8, 20, 4, 3));
+
+        dashboardCounters.reconcile();
+
+        DashboardCounts counts = dashboardCounters.current();
+        assertThat(counts.totalBoardgames()).isEqualTo(12);
+        assertThat(counts.activeReservations()).isEqualTo(4);
+        assertThat(counts.totalUsers()).isEqualTo(3);
+    }
+
+    private static Boardgame boardgame(Long id, boolean available) {
+        Boardgame boardgame = new Boardgame("Game " + id, new BigDecimal("19.99"), available, 2, 4, "Strategy", null);
+        boardgame.setId(id);
+        return boardgame;
+    }
+
+    private static Reservation reservation(Long id, LocalDate reservationDate) {
+        Reservation reservation = new Reservation(null, boardgame(1L, true), reservationDate, 2, null);
+        reservation.setId(id);
+        return reservation;
+    }
+
+    private static DashboardStatistics statistics(long totalBoardgames, long availableBoardgames,
+            long totalReservations, long activeReservations, long totalUsers) {
+        return new DashboardStatistics() {
+            @Override
+            public long getTotalBoardgames() {
+                return totalBoardgames;
+            }
+
+            @Override
+            public long getAvailableBoardgames() {
+                return availableBoardgames;
+            }
+
+            @Override
+            public long getTotalReservations() {
+                return totalReservations;
+            }
+
+            @Override
+            public long getActiveReservations() {
+                return activeReservations;
+            }
+
+            @Override
+            public long getTotalUsers() {
+                return totalUsers;
+            }
+        };
+    }
+}
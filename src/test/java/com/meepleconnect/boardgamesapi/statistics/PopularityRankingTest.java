@@ -0,0 +1,206 @@
+package com.meepleconnect.boardgamesapi.statistics;
+
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
+import com.meepleconnect.boardgamesapi.events.ReservationChangedEvent;
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.PopularBoardgame;
+import com.meepleconnect.boardgamesapi.models.Reservation;
+import com.meepleconnect.boardgamesapi.models.ReservationActivity;
+import com.meepleconnect.boardgamesapi.repositories.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PopularityRankingTest {
+
+    private static final Duration HALF_LIFE = Duration.ofDays(14);
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private MutableClock clock;
+    private PopularityRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2030-03-01T12:00:00Z"));
+        ranking = new PopularityRanking(reservationRepository, HALF_LIFE, 2, clock);
+        ranking.rebuild();
+        clearInvocations(reservationRepository);
+    }
+
+    @Test
+    void top_ShouldOrderByReservationFrequencyAndKeepOnlyTopSize() {
+        reserve(1L, "Catan");
+        reserve(2L, "Azul");
+        reserve(2L, "Azul");
+        reserve(3L, "Chess");
+        reserve(3L, "Chess");
+        reserve(3L, "Chess");
+
+        List<PopularBoardgame> top = ranking.top();
+
+        assertThat(top).extracting(PopularBoardgame::name).containsExactly("Chess", "Azul");
+        assertThat(top.get(0).popularityScore()).isEqualTo(3.0);
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void top_ShouldDecayOlderReservations() {
+        reserve(1L, "Catan");
+        reserve(1L, "Catan");
+        clock.advance(HALF_LIFE.multipliedBy(2));
+        reserve(2L, "Azul");
+
+        List<PopularBoardgame> top = ranking.top();
+
+        assertThat(top).extracting(PopularBoardgame::name).containsExactly("Azul", "Catan");
+        assertThat(top.get(0).popularityScore()).isEqualTo(1.0);
+        assertThat(top.get(1).popularityScore()).isEqualTo(0.5);
+
+        clock.advance(HALF_LIFE);
+
+        assertThat(ranking.top()).extracting(PopularBoardgame::popularityScore).containsExactly(0.5, 0.25);
+    }
+
+    @Test
+    void onReservationChanged_WhenTopGameIsCancelled_ShouldPromoteNextGame() {
+        reserve(1L, "Catan");
+        reserve(1L, "Catan");
+        reserve(2L, "Azul");
+        reserve(2L, "Azul");
+        Reservation chess = reserve(3L, "Chess");
+        reserve(3L, "Chess");
+        reserve(3L, "Chess");
+
+        ranking.onReservationChanged(ReservationChangedEvent.cancelled(chess));
+        ranking.onReservationChanged(ReservationChangedEvent.cancelled(chess));
+
+        assertThat(ranking.top()).extracting(PopularBoardgame::name).containsExactly("Catan", "Azul");
+    }
+
+    @Test
+    void onBoardgameChanged_ShouldRenameAndDropDeletedGames() {
+        reserve(1L, "Catan");
+        reserve(2L, "Azul");
+        reserve(2L, "Azul");
+        reserve(3L, "Chess");
+
+        Boardgame renamed = boardgame(2L, "Azul: Summer Pavilion");
+        ranking.onBoardgameChanged(BoardgameChangedEvent.updated(renamed, true));
+        ranking.onBoardgameChanged(BoardgameChangedEvent.deleted(1L, true));
+
+        assertThat(ranking.top()).extracting(PopularBoardgame::name)
+                .containsExactly("Azul: Summer Pavilion", "Chess");
+    }
+
+    @Test
+    void rebuild_ShouldLoadDecayHorizonFromRepository() {
+        Instant now = clock.instant();
+        List<ReservationActivity> activity = List.of(activity(1L, "Catan", now.minus(HALF_LIFE)),
+                activity(2L, "Azul", now), activity(1L, "Catan", now.minus(HALF_LIFE)));
+        when(reservationRepository.findActivitySince(any(Instant.class))).thenReturn(activity);
+
+        ranking.rebuild();
+
+        List<PopularBoardgame> top = ranking.top();
+        assertThat(top).extracting(PopularBoardgame::id).containsExactly(1L, 2L);
+        assertThat(top).extracting(PopularBoardgame::popularityScore).containsExactly(1.0, 1.0);
+    }
+
+    @Test
+    void top_BeforeFirstRebuild_ShouldLoadOnce() {
+        PopularityRanking cold = new PopularityRanking(reservationRepository, HALF_LIFE, 2, clock);
+        when(reservationRepository.findActivitySince(any(Instant.class)))
+                .thenReturn(List.of(activity(1L, "Catan", clock.instant())));
+
+        assertThat(cold.top()).extracting(PopularBoardgame::id).containsExactly(1L);
+        assertThat(cold.top()).extracting(PopularBoardgame::id).containsExactly(1L);
+        verify(reservationRepository, times(1)).findActivitySince(any(Instant.class));
+    }
+
+    private Reservation reserve(Long boardgameId, String name) {
+        Reservation reservation = new Reservation(null, boardgame(boardgameId, name), LocalDate.of(2030, 4, 1), 2,
+                null);
+        reservation.setCreatedAt(clock.instant());
+        ranking.onReservationChanged(ReservationChangedEvent.created(reservation));
+        return reservation;
+    }
+
+    private static Boardgame boardgame(Long id, String name) {
+        Boardgame boardgame = new Boardgame(name, new BigDecimal("29.99"), true, 2, 4, "Strategy", null);
+        boardgame.setId(id);
+        return boardgame;
+    }
+
+    private static ReservationActivity activity(Long boardgameId, String name, Instant createdAt) {
+        return new ReservationActivity() {
+            @Override
+            public Long getBoardgameId() {
+                return boardgameId;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getGenre() {
+                return "Strategy";
+            }
+
+            @Override
+            public Instant getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.meepleconnect.boardgamesapi.statistics;
+
+import com.meepleconnect.boardgamesapi.events.BoardgameChangedEvent;
+import com.meepleconnect.boardgamesapi.events.ReservationChangedEvent;
+import com.meepleconnect.boardgamesapi.models.Boardgame;
+import com.meepleconnect.boardgamesapi.models.Reservation;
+import com.meepleconnect.boardgamesapi.models.ReservationDailyStats;
+import com.meepleconnect.boardgamesapi.repositories.ReservationDailyStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReservationDailyRollupTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 7, 14);
+
+    @Mock
+    private ReservationDailyStatsRepository dailyStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReservationDailyRollup rollup;
+
+    @BeforeEach
+    void setUp() {
+        rollup = new ReservationDailyRollup(dailyStatsRepository, transactionManager);
+    }
+
+    @Test
+    void onReservationChanged_WithFirstReservationOfDay_ShouldInsertRow() {
+        when(dailyStatsRepository.addToDay(DATE, 7L, 1, 4)).thenReturn(0);
+
+        rollup.onReservationChanged(ReservationChangedEvent.created(reservation(4)));
+
+        ArgumentCaptor<ReservationDailyStats> captor = ArgumentCaptor.forClass(ReservationDailyStats.class);
+        verify(dailyStatsRepository).saveAndFlush(captor.capture());
+        ReservationDailyStats row = captor.getValue();
+        assertThat(row.getStatDate()).isEqualTo(DATE);
+        assertThat(row.getBoardgameId()).isEqualTo(7L);
+        assertThat(row.getGenre()).isEqualTo("Strategy");
+        assertThat(row.getReservationCount()).isEqualTo(1);
+        assertThat(row.getParticipantCount()).isEqualTo(4);
+    }
+
+    @Test
+    void onReservationChanged_WithExistingRow_ShouldIncrementInPlace() {
+        when(dailyStatsRepository.addToDay(DATE, 7L, 1, 3)).thenReturn(1);
+
+        rollup.onReservationChanged(ReservationChangedEvent.created(reservation(3)));
+
+        verify(dailyStatsRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void onReservationChanged_WhenCancelled_ShouldDecrementAndDropEmptyRow() {
+        when(dailyStatsRepository.addToDay(DATE, 7L, -1, -4)).thenReturn(1);
+
+        rollup.onReservationChanged(ReservationChangedEvent.cancelled(reservation(4)));
+
+        verify(dailyStatsRepository).deleteEmptyDay(DATE, 7L);
+        verify(dailyStatsRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void onReservationChanged_WhenConcurrentInsertWins_ShouldRetryAsIncrement() {
+        when(dailyStatsRepository.addToDay(DATE, 7L, 1, 2)).thenReturn(0, 1);
+        when(dailyStatsRepository.saveAndFlush(any(ReservationDailyStats.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        rollup.onReservationChanged(ReservationChangedEvent.created(reservation(2)));
+
+        verify(dailyStatsRepository, times(2)).addToDay(DATE, 7L, 1, 2);
+        verify(dailyStatsRepository, times(1)).saveAndFlush(any(ReservationDailyStats.class));
+    }
+
+    @Test
+    void onBoardgameChanged_ShouldFollowGenreChangesAndDeletes() {
+        Boardgame boardgame = boardgame();
+        boardgame.setGenre("Party");
+
+        rollup.onBoardgameChanged(BoardgameChangedEvent.updated(boardgame, true));
+        rollup.onBoardgameChanged(BoardgameChangedEvent.deleted(7L, true));
+
+        verify(dailyStatsRepository).updateGenre(7L, "Party");
+        verify(dailyStatsRepository).deleteByBoardgame(7L);
+    }
+
+    @Test
+    void rebuild_ShouldReplaceRollupFromReservations() {
+        rollup.rebuild();
+
+        InOrder order = inOrder(dailyStatsRepository);
+        order.verify(dailyStatsRepository).deleteAllInBatch();
+        order.verify(dailyStatsRepository).insertFromReservations();
+    }
+
+    @Test
+    void rebuild_WhileReservationIsCommitting_ShouldWaitUntilIncrementIsApplied() throws Exception {
+        when(dailyStatsRepository.addToDay(DATE, 7L, 1, 2)).thenReturn(1);
+        ReservationChangedEvent event = ReservationChangedEvent.created(reservation(2));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            rollup.holdRebuildUntilApplied(event);
+
+            CompletableFuture<Void> rebuild = CompletableFuture.runAsync(rollup::rebuild);
+            Thread.sleep(100);
+            verify(dailyStatsRepository, never()).deleteAllInBatch();
+
+            rollup.onReservationChanged(event);
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+            rebuild.get(5, TimeUnit.SECONDS);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        InOrder order = inOrder(dailyStatsRepository);
+        order.verify(dailyStatsRepository).addToDay(DATE, 7L, 1, 2);
+        order.verify(dailyStatsRepository).deleteAllInBatch();
+        order.verify(dailyStatsRepository).insertFromReservations();
+    }
+
+    private static Reservation reservation(int participants) {
+        Reservation reservation = new Reservation(null, boardgame(), DATE, participants, null);
+        reservation.setId(1L);
+        return reservation;
+    }
+
+    private static Boardgame boardgame() {
+        Boardgame boardgame = new Boardgame("Rollup Game", new BigDecimal("29.99"), true, 2, 4, "Strategy", null);
+        boardgame.setId(7L);
+        return boardgame;
+    }
+}
@@ -0,0 +1,128 @@
+package com.meepleconnect.boardgamesapi.statistics;
+
+import com.meepleconnect.boardgamesapi.events.ReservationChangedEvent;
+import com.meepleconnect.boardgamesapi.models.TrendingWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TrendingTrackerTest {
+
+    private MutableClock clock;
+    private TrendingTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2030-03-04T10:00:00Z"));
+        tracker = new TrendingTracker(5, 1, clock);
+    }
+
+    @Test
+    void top_ShouldFindHeavyHittersAmongManyDistinctGames() {
+        for (long id = 1000; id < 21000; id++) {
+            tracker.recordView(id);
+        }
+        view(1L, 300);
+        view(2L, 200);
+        view(3L, 100);
+
+        Map<Long, Long> top = tracker.top(TrendingWindow.DAY, 3);
+
+        assertThat(top.keySet()).containsExactly(1L, 2L, 3L);
+        assertThat(top.get(1L)).isGreaterThanOrEqualTo(300L);
+    }
+
+    @Test
+    void top_ShouldWeighReservationsAboveViews() {
+        view(1L, 4);
+        tracker.onReservationChanged(reservation(ReservationChangedEvent.ChangeType.CREATED, 2L));
+        tracker.onReservationChanged(reservation(ReservationChangedEvent.ChangeType.CANCELLED, 1L));
+
+        assertThat(tracker.top(TrendingWindow.HOUR, 10)).containsExactly(Map.entry(2L, 5L), Map.entry(1L, 4L));
+    }
+
+    @Test
+    void top_ShouldDropBucketsThatLeftTheWindow() {
+        view(1L, 3);
+        clock.advance(Duration.ofMinutes(90));
+        view(2L, 1);
+
+        assertThat(tracker.top(TrendingWindow.HOUR, 10)).containsOnlyKeys(2L);
+        assertThat(tracker.top(TrendingWindow.DAY, 10)).containsExactly(Map.entry(1L, 3L), Map.entry(2L, 1L));
+
+        clock.advance(Duration.ofDays(2));
+
+        assertThat(tracker.top(TrendingWindow.DAY, 10)).isEmpty();
+        assertThat(tracker.top(TrendingWindow.WEEK, 10)).containsOnlyKeys(1L, 2L);
+    }
+
+    @Test
+    void recordView_ShouldNotLoseUpdatesUnderConcurrency() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> view(7L, 5000)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(tracker.top(TrendingWindow.WEEK, 1)).containsExactly(Map.entry(7L, 40000L));
+    }
+
+    private void view(long id, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.recordView(id);
+        }
+    }
+
+    private static ReservationChangedEvent reservation(ReservationChangedEvent.ChangeType type, Long boardgameId) {
+        return new ReservationChangedEvent(type, 1L, LocalDate.of(2030, 3, 10), Instant.now(), boardgameId,
+                "Game " + boardgameId, "Strategy", 2);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}